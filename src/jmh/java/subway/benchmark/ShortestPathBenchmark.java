@@ -0,0 +1,80 @@
+package subway.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import subway.application.NetworkGraph;
+import subway.application.NetworkPath;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 노선도 그래프의 최단 경로 탐색 지연 시간 측정
+ * <p>
+ * 한 변에 {@code side}개의 역이 놓인 격자형 노선도에서 양 끝 모서리 역 사이의 경로를 탐색한다.
+ * {@code side}=316(약 10만 역)에서 이웃한 두 역 사이의 탐색 시간이 그래프 크기와 관계없이 일정한지 함께 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShortestPathBenchmark {
+
+    private static final int DISTANCE = 10;
+
+    @Param({"10", "100", "316"})
+    private int side;
+
+    private NetworkGraph graph;
+
+    private long lastStationId;
+
+    @Setup
+    public void setUp() {
+        int stationCount = side * side;
+        int sectionCount = 2 * side * (side - 1);
+        long[] upStationIds = new long[sectionCount];
+        long[] downStationIds = new long[sectionCount];
+        int[] distances = new int[sectionCount];
+        Map<Long, String> stationNames = new HashMap<>();
+
+        int section = 0;
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                long stationId = stationIdOf(row, column);
+                stationNames.put(stationId, "역" + stationId);
+                if (column + 1 < side) {
+                    upStationIds[section] = stationId;
+                    downStationIds[section] = stationIdOf(row, column + 1);
+                    distances[section++] = DISTANCE + row % 3;
+                }
+                if (row + 1 < side) {
+                    upStationIds[section] = stationId;
+                    downStationIds[section] = stationIdOf(row + 1, column);
+                    distances[section++] = DISTANCE + column % 3;
+                }
+            }
+        }
+        graph = NetworkGraph.of(upStationIds, downStationIds, distances, stationNames);
+        lastStationId = stationCount;
+    }
+
+    @Benchmark
+    public NetworkPath findShortestPath() {
+        return graph.findShortestPath(1L, lastStationId).orElseThrow();
+    }
+
+    /**
+     * 탐색 범위가 출발역 주변으로 한정되는 경로, 정점별 작업 배열을 매번 그래프 크기만큼 초기화하면 그래프 크기에 비례해 느려짐
+     */
+    @Benchmark
+    public NetworkPath findShortestPathToNeighbor() {
+        return graph.findShortestPath(1L, 2L).orElseThrow();
+    }
+
+    private long stationIdOf(int row, int column) {
+        return (long) row * side + column + 1;
+    }
+}
@@ -0,0 +1,154 @@
+package subway.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import subway.dto.StationLineResponse;
+import subway.dto.StationResponse;
+import subway.presentation.JsonArrayStreamWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지하철 노선 목록 응답의 직렬화 방식별 처리량 및 최대 유지 힙 비교
+ * <p>
+ * 전체 목록 방식은 직렬화가 끝날 때까지 모든 응답 객체를 유지하지만, 스트리밍 방식은 노선 하나 분량만 유지한다.
+ * 연산 당 총 할당량(gc.alloc.rate.norm)은 두 방식이 거의 같으므로 이 차이를 보여주지 못한다.
+ * 따라서 {@code peakLiveHeap*} 벤치마크(SingleShotTime)에서 응답 객체가 가장 많이 유지되는 시점에 GC 후 사용 중인 힙을 측정하고,
+ * 연산 시작 전 값과의 차이를 보조 카운터 {@code liveHeapBytes}(바이트)로 보고한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StationLineSerializationBenchmark {
+
+    @Param({"40", "1000", "10000"})
+    private int lineCount;
+
+    @Param({"30"})
+    private int stationCountPerLine;
+
+    private ObjectMapper objectMapper;
+
+    private JsonArrayStreamWriter jsonArrayStreamWriter;
+
+    private OutputStream outputStream;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        jsonArrayStreamWriter = new JsonArrayStreamWriter(objectMapper);
+        outputStream = new DiscardingOutputStream();
+    }
+
+    @Benchmark
+    public void serializeFullList() throws IOException {
+        List<StationLineResponse> stationLines = new ArrayList<>(lineCount);
+        for (int lineIndex = 0; lineIndex < lineCount; lineIndex++) {
+            stationLines.add(createStationLine(lineIndex));
+        }
+        objectMapper.writeValue(outputStream, stationLines);
+    }
+
+    @Benchmark
+    public void streamPerLine() throws IOException {
+        jsonArrayStreamWriter.<StationLineResponse>write(outputStream, consumer -> {
+            for (int lineIndex = 0; lineIndex < lineCount; lineIndex++) {
+                consumer.accept(createStationLine(lineIndex));
+            }
+        });
+    }
+
+    /**
+     * 모든 노선 응답을 만든 직후(직렬화 직전) 유지 힙 측정
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void peakLiveHeapFullList(HeapProbe heapProbe) throws IOException {
+        List<StationLineResponse> stationLines = new ArrayList<>(lineCount);
+        for (int lineIndex = 0; lineIndex < lineCount; lineIndex++) {
+            stationLines.add(createStationLine(lineIndex));
+        }
+        heapProbe.sample();
+        objectMapper.writeValue(outputStream, stationLines);
+    }
+
+    /**
+     * 마지막 노선 응답을 전달하기 직전 유지 힙 측정(앞선 노선은 이미 기록되어 수거 가능)
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void peakLiveHeapStreamPerLine(HeapProbe heapProbe) throws IOException {
+        jsonArrayStreamWriter.<StationLineResponse>write(outputStream, consumer -> {
+            for (int lineIndex = 0; lineIndex < lineCount; lineIndex++) {
+                StationLineResponse stationLine = createStationLine(lineIndex);
+                if (lineIndex == lineCount - 1) {
+                    heapProbe.sample();
+                }
+                consumer.accept(stationLine);
+            }
+        });
+    }
+
+    private StationLineResponse createStationLine(int lineIndex) {
+        List<StationResponse> stations = new ArrayList<>(stationCountPerLine);
+        for (int stationIndex = 0; stationIndex < stationCountPerLine; stationIndex++) {
+            long stationId = (long) lineIndex * stationCountPerLine + stationIndex + 1;
+            stations.add(new StationResponse(stationId, "역" + stationId));
+        }
+        return new StationLineResponse((long) lineIndex + 1, "노선" + lineIndex, "bg-red-600", stations);
+    }
+
+    /**
+     * 기록된 내용을 버리며, 닫힌 이후에도 계속 기록할 수 있는 출력 스트림
+     */
+    private static class DiscardingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+    /**
+     * 연산 시작 전과 측정 시점의 GC 후 사용 중인 힙 차이를 보조 카운터로 보고
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapProbe {
+
+        private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+        public long liveHeapBytes;
+
+        private long baselineBytes;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            liveHeapBytes = 0;
+            baselineBytes = usedHeapAfterGc();
+        }
+
+        void sample() {
+            liveHeapBytes = Math.max(liveHeapBytes, usedHeapAfterGc() - baselineBytes);
+        }
+
+        private static long usedHeapAfterGc() {
+            System.gc();
+            return MEMORY.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package subway.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import subway.entity.StationLine;
+import subway.entity.StationSection;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지하철 노선/구간 도메인 연산의 처리량 및 할당량 측정
+ * <p>
+ * 구간 수가 다른 합성 노선(1번 역부터 구간 수 + 1번 역까지 이어진 노선)을 만들어 각 연산을 측정한다.
+ * {@code *LinearScan} 벤치마크는 색인 도입 이전의 전체 순회 방식을 재현한 비교 기준이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StationSectionsBenchmark {
+
+    private static final int DISTANCE = 10;
+
+    @Param({"10", "1000", "100000"})
+    private int sectionCount;
+
+    private StationLine stationLine;
+
+    private StationSection appendableSection;
+
+    private StationSection duplicatedDownStationSection;
+
+    private long lastStationId;
+
+    @Setup
+    public void setUp() {
+        stationLine = new StationLine("벤치마크선", "bg-red-600", 1L, 2L, DISTANCE);
+        for (long upStationId = 1; upStationId <= sectionCount; upStationId++) {
+            appendSection(new StationSection(upStationId, upStationId + 1, DISTANCE));
+        }
+        stationLine.discardDomainEvents();
+        lastStationId = sectionCount + 1L;
+        appendableSection = new StationSection(lastStationId, lastStationId + 1, DISTANCE);
+        duplicatedDownStationSection = new StationSection(lastStationId, 1L, DISTANCE);
+    }
+
+    @Benchmark
+    public boolean areAllUpStationsDifferentFrom() {
+        return stationLine.getSections().areAllUpStationsDifferentFrom(appendableSection);
+    }
+
+    @Benchmark
+    public boolean areAllUpStationsDifferentFromLinearScan() {
+        return stationLine.getSections().getSections().stream()
+                .noneMatch(section -> section.isUpStationSame(appendableSection.getDownStationId()));
+    }
+
+    @Benchmark
+    public StationSection findSectionToDeleteLinearScan() {
+        return stationLine.getSections().getSections().stream()
+                .filter(section -> section.getDownStationId().equals(lastStationId))
+                .findFirst()
+                .orElseThrow(RuntimeException::new);
+    }
+
+    @Benchmark
+    public Long findFirstUpStation() {
+        return stationLine.getSections().findFirstUpStation();
+    }
+
+    @Benchmark
+    public Long findLastStationId() {
+        return stationLine.getSections().findLastStationId();
+    }
+
+    @Benchmark
+    public boolean canSectionSave() {
+        return stationLine.canSectionSave(appendableSection);
+    }
+
+    @Benchmark
+    public boolean canSectionSaveRejected() {
+        return stationLine.canSectionSave(duplicatedDownStationSection);
+    }
+
+    @Benchmark
+    public boolean canSectionDelete() {
+        return stationLine.canSectionDelete(lastStationId);
+    }
+
+    /**
+     * 마지막 구간을 삭제한 뒤 같은 구간을 다시 추가해, 측정 간 노선 상태를 유지
+     * <p>
+     * 저장소를 거치지 않으므로 등록된 도메인 이벤트도 함께 버려 연산마다 이벤트가 쌓이지 않게 한다.
+     */
+    @Benchmark
+    public StationLine deleteAndRestoreLastSection() {
+        stationLine.deleteSectionSection(lastStationId);
+        appendSection(new StationSection(lastStationId - 1, lastStationId, DISTANCE));
+        stationLine.discardDomainEvents();
+        return stationLine;
+    }
+
+    private void appendSection(StationSection section) {
+        section.setStationLine(stationLine);
+        section.updateDownStationOfLine();
+    }
+}
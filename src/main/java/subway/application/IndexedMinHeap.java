@@ -0,0 +1,110 @@
+package subway.application;
+
+import java.util.Arrays;
+
+/**
+ * 정점 번호(0 ~ capacity - 1)를 키 값 순서로 꺼내는 이진 힙, 박싱 없이 배열만 사용
+ * <p>
+ * 이미 들어 있는 정점의 키를 줄이면 힙 안의 위치를 바로 찾아 올려 보낸다.
+ * {@link #clear()}는 힙에 남은 정점만 비우므로, 같은 힙을 여러 탐색에 재사용할 수 있다.
+ */
+final class IndexedMinHeap {
+
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+
+    private final int[] positions;
+
+    private final long[] keys;
+
+    private int size;
+
+    IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new long[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    /**
+     * 힙에 남아 있는 정점만 제거(꺼낸 정점의 위치는 이미 비어 있음)
+     */
+    void clear() {
+        for (int position = 0; position < size; position++) {
+            positions[heap[position]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 정점을 추가하거나, 이미 있는 정점이라면 더 작은 키로 갱신
+     */
+    void insertOrDecrease(int vertex, long key) {
+        int position = positions[vertex];
+        if (position == ABSENT) {
+            position = size++;
+            heap[position] = vertex;
+            positions[vertex] = position;
+        } else if (key >= keys[vertex]) {
+            return;
+        }
+        keys[vertex] = key;
+        siftUp(position);
+    }
+
+    /**
+     * 키가 가장 작은 정점을 꺼내 반환
+     */
+    int poll() {
+        int minimum = heap[0];
+        positions[minimum] = ABSENT;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return minimum;
+    }
+
+    private void siftUp(int position) {
+        int vertex = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (keys[heap[parent]] <= keys[vertex]) {
+                break;
+            }
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(vertex, position);
+    }
+
+    private void siftDown(int position) {
+        int vertex = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+            if (keys[vertex] <= keys[heap[child]]) {
+                break;
+            }
+            move(heap[child], position);
+            position = child;
+        }
+        move(vertex, position);
+    }
+
+    private void move(int vertex, int position) {
+        heap[position] = vertex;
+        positions[vertex] = position;
+    }
+}
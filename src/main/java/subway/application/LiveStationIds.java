@@ -0,0 +1,143 @@
+package subway.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.entity.StationRepository;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 존재하는 지하철역 ID를 비트셋으로 보관해, 존재하지 않는 역을 DB 조회 없이 걸러내는 필터
+ * <p>
+ * 이 프로세스에서 생성된 역은 즉시 추가하고 삭제된 역은 커밋 이후 제거하므로, 단일 인스턴스 배포에서는 존재하는 역을 없다고 판단하지 않는다.
+ * (롤백된 생성 등으로 없는 역을 있다고 판단할 수 있으므로 최종 확인은 DB에서 한다.)
+ * 다른 인스턴스에서 생성되었거나 DB에 직접 추가된 역은 재시작 전까지 알 수 없으므로,
+ * 여러 인스턴스로 배포하는 경우 {@code subway.live-station-ids.enabled=false}로 비활성화해야 한다(모든 ID를 통과시키고 DB에서만 확인).
+ * 애플리케이션 시작 후 전체 ID를 읽기 전까지는 모든 ID를 통과시킨다.
+ */
+@Component
+public class LiveStationIds {
+
+    private final StationRepository stationRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final BitSet stationIds = new BitSet();
+
+    private volatile boolean loaded;
+
+    public LiveStationIds(StationRepository stationRepository,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${subway.live-station-ids.enabled}") boolean enabled) {
+        this.stationRepository = stationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 애플리케이션 시작 후 프라이머리에서 전체 지하철역 ID를 읽어 필터 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> allStationIds = transactionTemplate.execute(status -> stationRepository.findAllIds());
+        lock.writeLock().lock();
+        try {
+            allStationIds.forEach(this::set);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 지하철역이 모두 존재할 수 있는지 확인
+     *
+     * @param ids 지하철역 ID 목록
+     * @return 하나라도 확실히 존재하지 않으면 false, 그 외에는 true(DB 확인 필요, 비활성화된 경우 항상 true)
+     */
+    public boolean mightContainAll(Collection<Long> ids) {
+        if (!loaded) {
+            return true;
+        }
+        lock.readLock().lock();
+        try {
+            return ids.stream().allMatch(this::mightContain);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(Long id) {
+        addAll(List.of(id));
+    }
+
+    public void addAll(Collection<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            ids.forEach(this::set);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 지하철역 ID 제거, 트랜잭션 진행 중일 경우 커밋 이후 제거
+     *
+     * @param ids 제거할 지하철역 ID 목록
+     */
+    public void removeAll(Collection<Long> ids) {
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                ids.stream()
+                        .filter(LiveStationIds::isIndexable)
+                        .forEach(id -> stationIds.clear(id.intValue()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            stationIds.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean mightContain(Long id) {
+        if (id == null || id < 1) {
+            return false;
+        }
+        return !isIndexable(id) || stationIds.get(id.intValue());
+    }
+
+    private void set(Long id) {
+        if (isIndexable(id)) {
+            stationIds.set(id.intValue());
+        }
+    }
+
+    /**
+     * 비트셋으로 표현할 수 없는 ID는 항상 존재할 수 있는 것으로 취급
+     */
+    private static boolean isIndexable(Long id) {
+        return id != null && id >= 1 && id <= Integer.MAX_VALUE;
+    }
+}
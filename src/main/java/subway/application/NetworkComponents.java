@@ -0,0 +1,138 @@
+package subway.application;
+
+import java.util.Arrays;
+
+/**
+ * 노선도 그래프의 연결 요소(서로 오갈 수 있는 역의 묶음) 번호
+ * <p>
+ * 유니온 파인드로 간선을 합친 뒤 정점별 연결 요소 번호 배열로 펼쳐 보관하므로, 두 역의 연결 여부는 배열 조회 두 번으로 확인된다.
+ * 유니온 파인드는 합친 것을 되돌릴 수 없으므로 간선이 추가되기만 한 경우에는 {@link #withEdges}로 이어서 합치고,
+ * 간선이 삭제된 경우에는 {@link #of}로 전체를 다시 계산한다.
+ */
+final class NetworkComponents {
+
+    private final int[] labels;
+
+    private final int[] sizes;
+
+    private NetworkComponents(int[] labels, int[] sizes) {
+        this.labels = labels;
+        this.sizes = sizes;
+    }
+
+    /**
+     * CSR 인접 배열의 모든 간선으로 연결 요소 계산
+     */
+    static NetworkComponents of(int vertexCount, int[] offsets, int[] targets) {
+        DisjointSet disjointSet = new DisjointSet(vertexCount);
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            for (int edge = offsets[vertex]; edge < offsets[vertex + 1]; edge++) {
+                disjointSet.union(vertex, targets[edge]);
+            }
+        }
+        return disjointSet.toComponents();
+    }
+
+    /**
+     * 기존 연결 요소에 추가된 간선만 이어서 합친 새 연결 요소 계산, 기존 정점은 하나도 제거되지 않았어야 한다.
+     *
+     * @param oldToNew          기존 정점 번호 → 새 정점 번호
+     * @param vertexCount       새 그래프의 정점 수
+     * @param addedUpVertices   추가된 간선의 한쪽 정점 번호(새 그래프 기준)
+     * @param addedDownVertices 추가된 간선의 다른 쪽 정점 번호(새 그래프 기준)
+     */
+    NetworkComponents withEdges(int[] oldToNew, int vertexCount, int[] addedUpVertices, int[] addedDownVertices) {
+        DisjointSet disjointSet = new DisjointSet(vertexCount);
+        int[] representatives = new int[sizes.length];
+        Arrays.fill(representatives, -1);
+        for (int oldVertex = 0; oldVertex < labels.length; oldVertex++) {
+            int label = labels[oldVertex];
+            if (representatives[label] == -1) {
+                representatives[label] = oldToNew[oldVertex];
+            } else {
+                disjointSet.union(representatives[label], oldToNew[oldVertex]);
+            }
+        }
+        for (int edge = 0; edge < addedUpVertices.length; edge++) {
+            disjointSet.union(addedUpVertices[edge], addedDownVertices[edge]);
+        }
+        return disjointSet.toComponents();
+    }
+
+    int getComponentCount() {
+        return sizes.length;
+    }
+
+    int getComponentOf(int vertex) {
+        return labels[vertex];
+    }
+
+    int getSize(int component) {
+        return sizes[component];
+    }
+
+    boolean isConnected(int vertex, int otherVertex) {
+        return labels[vertex] == labels[otherVertex];
+    }
+
+    /**
+     * 크기 기준 합치기와 경로 절반 압축을 사용하는 유니온 파인드, 계산이 끝나면 연결 요소 번호 배열로 변환
+     */
+    private static final class DisjointSet {
+
+        private final int[] parents;
+
+        private final int[] sizes;
+
+        private DisjointSet(int vertexCount) {
+            this.parents = new int[vertexCount];
+            this.sizes = new int[vertexCount];
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                parents[vertex] = vertex;
+                sizes[vertex] = 1;
+            }
+        }
+
+        private int find(int vertex) {
+            while (parents[vertex] != vertex) {
+                parents[vertex] = parents[parents[vertex]];
+                vertex = parents[vertex];
+            }
+            return vertex;
+        }
+
+        private void union(int vertex, int otherVertex) {
+            int root = find(vertex);
+            int otherRoot = find(otherVertex);
+            if (root == otherRoot) {
+                return;
+            }
+            if (sizes[root] < sizes[otherRoot]) {
+                int swap = root;
+                root = otherRoot;
+                otherRoot = swap;
+            }
+            parents[otherRoot] = root;
+            sizes[root] += sizes[otherRoot];
+        }
+
+        private NetworkComponents toComponents() {
+            int[] labels = new int[parents.length];
+            int[] labelOfRoot = new int[parents.length];
+            Arrays.fill(labelOfRoot, -1);
+            int componentCount = 0;
+            for (int vertex = 0; vertex < parents.length; vertex++) {
+                int root = find(vertex);
+                if (labelOfRoot[root] == -1) {
+                    labelOfRoot[root] = componentCount++;
+                }
+                labels[vertex] = labelOfRoot[root];
+            }
+            int[] componentSizes = new int[componentCount];
+            for (int label : labels) {
+                componentSizes[label]++;
+            }
+            return new NetworkComponents(labels, componentSizes);
+        }
+    }
+}
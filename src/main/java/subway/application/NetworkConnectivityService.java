@@ -0,0 +1,42 @@
+package subway.application;
+
+import org.springframework.stereotype.Service;
+import subway.dto.NetworkComponentResponse;
+import subway.dto.ReachabilityResponse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class NetworkConnectivityService {
+
+    private final SubwayNetwork subwayNetwork;
+
+    public NetworkConnectivityService(SubwayNetwork subwayNetwork) {
+        this.subwayNetwork = subwayNetwork;
+    }
+
+    /**
+     * 두 역이 구간을 따라 서로 오갈 수 있는지 여부를 메모리에 보관된 노선도 그래프에서 조회
+     *
+     * @param source 출발역 ID
+     * @param target 도착역 ID
+     * @return 도달 가능 여부(노선에 포함되지 않은 역은 도달할 수 없음)
+     */
+    public ReachabilityResponse findReachability(Long source, Long target) {
+        return new ReachabilityResponse(source, target, subwayNetwork.getGraph().isReachable(source, target));
+    }
+
+    /**
+     * 서로 오갈 수 있는 역끼리 묶은 목록 조회, 가장 큰 묶음을 제외한 나머지는 고립된 역 묶음이다.
+     *
+     * @return 역이 많은 묶음부터 정렬된 역 묶음 목록
+     */
+    public List<NetworkComponentResponse> findComponents() {
+        return subwayNetwork.getGraph().findComponentStationIds().stream()
+                .map(stationIds -> new NetworkComponentResponse(
+                        Arrays.stream(stationIds).boxed().collect(Collectors.toList())))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,50 @@
+package subway.application;
+
+import java.util.Objects;
+
+/**
+ * 노선도 그래프의 간선(지하철 구간의 상/하행역과 거리)
+ */
+public final class NetworkEdge {
+
+    private final long upStationId;
+
+    private final long downStationId;
+
+    private final int distance;
+
+    public NetworkEdge(long upStationId, long downStationId, int distance) {
+        this.upStationId = upStationId;
+        this.downStationId = downStationId;
+        this.distance = distance;
+    }
+
+    public long getUpStationId() {
+        return upStationId;
+    }
+
+    public long getDownStationId() {
+        return downStationId;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NetworkEdge)) {
+            return false;
+        }
+        NetworkEdge that = (NetworkEdge) o;
+        return upStationId == that.upStationId && downStationId == that.downStationId && distance == that.distance;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(upStationId, downStationId, distance);
+    }
+}
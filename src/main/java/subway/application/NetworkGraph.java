@@ -0,0 +1,385 @@
+package subway.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * 전체 지하철 구간으로 만든 변경 불가능한 무방향 가중치 그래프(CSR 인접 배열)
+ * <p>
+ * 역 ID는 정렬된 배열의 위치(정점 번호)로 바꾸어 사용하며, 정점 i의 이웃은
+ * {@code targets[offsets[i]] ~ targets[offsets[i + 1] - 1]}, 구간 거리는 같은 위치의 {@code distances}에 보관한다.
+ * 경로 탐색은 DB 조회 없이 메모리에서만 수행한다.
+ * <p>
+ * 구간이 추가/삭제되면 {@link #withChanges}로 바뀐 간선만 반영한 새 그래프(버전 + 1)를 만들고, 기존 그래프는 그대로 유지되므로
+ * 탐색 중인 요청은 교체 전 그래프를 끝까지 일관되게 사용한다.
+ * <p>
+ * 연결 요소({@link NetworkComponents})는 처음 조회될 때 계산하며, 간선이 추가되기만 한 새 그래프는 기존 연결 요소를 이어받아 합친다.
+ */
+public final class NetworkGraph {
+
+    private static final NetworkGraph EMPTY =
+            new NetworkGraph(0, new long[0], new String[0], new int[1], new int[0], new int[0]);
+
+    private static final int NO_VERTEX = -1;
+
+    private static final ThreadLocal<ShortestPathScratch> SHORTEST_PATH_SCRATCH =
+            ThreadLocal.withInitial(ShortestPathScratch::new);
+
+    private final long version;
+
+    private final long[] stationIds;
+
+    private final String[] stationNames;
+
+    private final int[] offsets;
+
+    private final int[] targets;
+
+    private final int[] distances;
+
+    private volatile NetworkComponents components;
+
+    private NetworkGraph(long version, long[] stationIds, String[] stationNames,
+                         int[] offsets, int[] targets, int[] distances) {
+        this.version = version;
+        this.stationIds = stationIds;
+        this.stationNames = stationNames;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.distances = distances;
+    }
+
+    public static NetworkGraph empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 구간 목록으로 그래프 생성, 각 구간은 양방향 간선이 된다.
+     *
+     * @param upStationIds     구간별 상행역 ID
+     * @param downStationIds   구간별 하행역 ID
+     * @param sectionDistances 구간별 거리
+     * @param stationNames     지하철역 ID를 키로 하는 지하철역 이름
+     * @return 생성된 그래프
+     * @throws IllegalArgumentException 구간 배열의 길이가 다르거나, 이름이 없는 역이 포함된 경우
+     */
+    public static NetworkGraph of(long[] upStationIds, long[] downStationIds, int[] sectionDistances,
+                                  Map<Long, String> stationNames) {
+        if (upStationIds.length != downStationIds.length || upStationIds.length != sectionDistances.length) {
+            throw new IllegalArgumentException("구간 배열의 길이가 서로 다릅니다.");
+        }
+        long[] stationIds = distinctSorted(upStationIds, downStationIds);
+        String[] names = new String[stationIds.length];
+        for (int vertex = 0; vertex < stationIds.length; vertex++) {
+            names[vertex] = stationNames.get(stationIds[vertex]);
+            if (names[vertex] == null) {
+                throw new IllegalArgumentException("존재하지 않는 역이 구간에 포함되어 있습니다: " + stationIds[vertex]);
+            }
+        }
+
+        int[] offsets = new int[stationIds.length + 1];
+        int[] ups = new int[upStationIds.length];
+        int[] downs = new int[downStationIds.length];
+        for (int section = 0; section < upStationIds.length; section++) {
+            ups[section] = Arrays.binarySearch(stationIds, upStationIds[section]);
+            downs[section] = Arrays.binarySearch(stationIds, downStationIds[section]);
+            offsets[ups[section] + 1]++;
+            offsets[downs[section] + 1]++;
+        }
+        for (int vertex = 0; vertex < stationIds.length; vertex++) {
+            offsets[vertex + 1] += offsets[vertex];
+        }
+
+        int[] targets = new int[offsets[stationIds.length]];
+        int[] distances = new int[targets.length];
+        int[] next = Arrays.copyOf(offsets, stationIds.length);
+        for (int section = 0; section < ups.length; section++) {
+            int forward = next[ups[section]]++;
+            targets[forward] = downs[section];
+            distances[forward] = sectionDistances[section];
+            int backward = next[downs[section]]++;
+            targets[backward] = ups[section];
+            distances[backward] = sectionDistances[section];
+        }
+        return new NetworkGraph(0, stationIds, names, offsets, targets, distances);
+    }
+
+    /**
+     * 같은 간선을 가진 주어진 버전의 그래프 반환(배열은 공유)
+     */
+    public NetworkGraph withVersion(long version) {
+        NetworkGraph graph = new NetworkGraph(version, stationIds, stationNames, offsets, targets, distances);
+        graph.components = components;
+        return graph;
+    }
+
+    /**
+     * 추가/삭제된 간선만 반영한 새 그래프 생성, 기존 그래프는 변경하지 않음
+     * <p>
+     * 바뀌지 않은 정점의 인접 배열은 그대로 복사하며, 간선이 모두 삭제된 역은 그래프에서 제거된다.
+     * 그래프에 없는 간선의 삭제는 무시한다.
+     *
+     * @param addedEdges   추가된 간선
+     * @param removedEdges 삭제된 간선
+     * @param stationNames 그래프에 새로 추가되는 역의 이름
+     * @return 버전이 1 증가한 새 그래프
+     * @throws IllegalArgumentException 새로 추가되는 역의 이름이 없는 경우
+     */
+    public NetworkGraph withChanges(List<NetworkEdge> addedEdges, List<NetworkEdge> removedEdges,
+                                    Map<Long, String> stationNames) {
+        int[] degrees = new int[this.stationIds.length];
+        for (int vertex = 0; vertex < degrees.length; vertex++) {
+            degrees[vertex] = offsets[vertex + 1] - offsets[vertex];
+        }
+        Map<Long, Map<Integer, Integer>> removals = new HashMap<>();
+        boolean edgesRemoved = false;
+        for (NetworkEdge edge : removedEdges) {
+            int up = vertexOf(edge.getUpStationId());
+            int down = vertexOf(edge.getDownStationId());
+            if (up != NO_VERTEX && down != NO_VERTEX && removeOnce(removals, up, down, edge.getDistance())) {
+                degrees[up]--;
+                degrees[down]--;
+                edgesRemoved = true;
+            }
+        }
+        Map<Long, Integer> addedDegrees = new HashMap<>();
+        for (NetworkEdge edge : addedEdges) {
+            addedDegrees.merge(edge.getUpStationId(), 1, Integer::sum);
+            addedDegrees.merge(edge.getDownStationId(), 1, Integer::sum);
+        }
+
+        long[] newStationIds = LongStream.concat(
+                IntStream.range(0, this.stationIds.length)
+                        .filter(vertex -> degrees[vertex] > 0 || addedDegrees.containsKey(this.stationIds[vertex]))
+                        .mapToLong(vertex -> this.stationIds[vertex]),
+                addedDegrees.keySet().stream().mapToLong(Long::longValue).filter(id -> !contains(id)))
+                .sorted()
+                .toArray();
+
+        String[] newStationNames = new String[newStationIds.length];
+        int[] newOffsets = new int[newStationIds.length + 1];
+        int[] oldToNew = new int[this.stationIds.length];
+        Arrays.fill(oldToNew, NO_VERTEX);
+        for (int vertex = 0; vertex < newStationIds.length; vertex++) {
+            long stationId = newStationIds[vertex];
+            int oldVertex = vertexOf(stationId);
+            if (oldVertex != NO_VERTEX) {
+                oldToNew[oldVertex] = vertex;
+                newStationNames[vertex] = this.stationNames[oldVertex];
+            } else {
+                newStationNames[vertex] = stationNames.get(stationId);
+                if (newStationNames[vertex] == null) {
+                    throw new IllegalArgumentException("존재하지 않는 역이 구간에 포함되어 있습니다: " + stationId);
+                }
+            }
+            int degree = (oldVertex == NO_VERTEX ? 0 : degrees[oldVertex]) + addedDegrees.getOrDefault(stationId, 0);
+            newOffsets[vertex + 1] = newOffsets[vertex] + degree;
+        }
+
+        int[] newTargets = new int[newOffsets[newStationIds.length]];
+        int[] newDistances = new int[newTargets.length];
+        int[] next = Arrays.copyOf(newOffsets, newStationIds.length);
+        for (int oldVertex = 0; oldVertex < this.stationIds.length; oldVertex++) {
+            int vertex = oldToNew[oldVertex];
+            if (vertex == NO_VERTEX) {
+                continue;
+            }
+            for (int edge = offsets[oldVertex]; edge < offsets[oldVertex + 1]; edge++) {
+                if (consumeRemoval(removals, oldVertex, targets[edge], distances[edge])) {
+                    continue;
+                }
+                newTargets[next[vertex]] = oldToNew[targets[edge]];
+                newDistances[next[vertex]++] = distances[edge];
+            }
+        }
+        int[] addedUpVertices = new int[addedEdges.size()];
+        int[] addedDownVertices = new int[addedEdges.size()];
+        for (int index = 0; index < addedEdges.size(); index++) {
+            NetworkEdge edge = addedEdges.get(index);
+            int up = Arrays.binarySearch(newStationIds, edge.getUpStationId());
+            int down = Arrays.binarySearch(newStationIds, edge.getDownStationId());
+            newTargets[next[up]] = down;
+            newDistances[next[up]++] = edge.getDistance();
+            newTargets[next[down]] = up;
+            newDistances[next[down]++] = edge.getDistance();
+            addedUpVertices[index] = up;
+            addedDownVertices[index] = down;
+        }
+
+        NetworkGraph graph =
+                new NetworkGraph(version + 1, newStationIds, newStationNames, newOffsets, newTargets, newDistances);
+        NetworkComponents currentComponents = components;
+        if (!edgesRemoved && currentComponents != null) {
+            graph.components = currentComponents.withEdges(
+                    oldToNew, newStationIds.length, addedUpVertices, addedDownVertices);
+        }
+        return graph;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean contains(long stationId) {
+        return vertexOf(stationId) != NO_VERTEX;
+    }
+
+    /**
+     * 두 역이 구간을 따라 서로 오갈 수 있는지 여부(거리 계산 없이 연결 요소 번호만 비교)
+     */
+    public boolean isReachable(long sourceStationId, long targetStationId) {
+        int source = vertexOf(sourceStationId);
+        int target = vertexOf(targetStationId);
+        if (source == NO_VERTEX || target == NO_VERTEX) {
+            return false;
+        }
+        return getComponents().isConnected(source, target);
+    }
+
+    /**
+     * 서로 오갈 수 있는 역끼리 묶은 목록, 역이 많은 묶음부터 정렬(각 묶음의 역 ID는 오름차순)
+     */
+    public List<long[]> findComponentStationIds() {
+        NetworkComponents currentComponents = getComponents();
+        long[][] componentStationIds = new long[currentComponents.getComponentCount()][];
+        int[] filled = new int[componentStationIds.length];
+        for (int component = 0; component < componentStationIds.length; component++) {
+            componentStationIds[component] = new long[currentComponents.getSize(component)];
+        }
+        for (int vertex = 0; vertex < stationIds.length; vertex++) {
+            int component = currentComponents.getComponentOf(vertex);
+            componentStationIds[component][filled[component]++] = stationIds[vertex];
+        }
+
+        List<long[]> result = new ArrayList<>(Arrays.asList(componentStationIds));
+        result.sort(Comparator.<long[]>comparingInt(ids -> ids.length).reversed()
+                .thenComparingLong(ids -> ids[0]));
+        return result;
+    }
+
+    /**
+     * 연결 요소 반환, 아직 계산되지 않았으면(간선 삭제 직후 등) 전체 간선으로 한 번에 계산
+     */
+    NetworkComponents getComponents() {
+        NetworkComponents currentComponents = components;
+        if (currentComponents == null) {
+            currentComponents = NetworkComponents.of(stationIds.length, offsets, targets);
+            components = currentComponents;
+        }
+        return currentComponents;
+    }
+
+    public int getStationCount() {
+        return stationIds.length;
+    }
+
+    /**
+     * 두 역 사이의 최단 경로 탐색(다익스트라), 도착역이 확정되는 즉시 종료
+     * <p>
+     * 정점별 작업 배열은 스레드마다 재사용하며, 탐색 비용은 그래프 전체가 아니라 탐색한 정점 수에 비례한다.
+     *
+     * @param sourceStationId 출발역 ID
+     * @param targetStationId 도착역 ID
+     * @return 최단 경로(두 역 중 하나라도 그래프에 없거나 연결되어 있지 않으면 empty)
+     */
+    public Optional<NetworkPath> findShortestPath(long sourceStationId, long targetStationId) {
+        int source = vertexOf(sourceStationId);
+        int target = vertexOf(targetStationId);
+        if (source == NO_VERTEX || target == NO_VERTEX) {
+            return Optional.empty();
+        }
+
+        ShortestPathScratch scratch = SHORTEST_PATH_SCRATCH.get();
+        scratch.reset(stationIds.length);
+        IndexedMinHeap heap = scratch.heap();
+        scratch.reach(source, 0, NO_VERTEX);
+        heap.insertOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            if (vertex == target) {
+                return Optional.of(toPath(scratch, target, scratch.distanceOf(target)));
+            }
+            scratch.settle(vertex);
+            long vertexDistance = scratch.distanceOf(vertex);
+            for (int edge = offsets[vertex]; edge < offsets[vertex + 1]; edge++) {
+                int neighbor = targets[edge];
+                long candidate = vertexDistance + distances[edge];
+                if (!scratch.isSettled(neighbor) && candidate < scratch.distanceOf(neighbor)) {
+                    scratch.reach(neighbor, candidate, vertex);
+                    heap.insertOrDecrease(neighbor, candidate);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private NetworkPath toPath(ShortestPathScratch scratch, int target, long distance) {
+        int length = 0;
+        for (int vertex = target; vertex != NO_VERTEX; vertex = scratch.previousOf(vertex)) {
+            length++;
+        }
+        long[] pathStationIds = new long[length];
+        String[] pathStationNames = new String[length];
+        for (int vertex = target, position = length - 1; vertex != NO_VERTEX;
+             vertex = scratch.previousOf(vertex), position--) {
+            pathStationIds[position] = stationIds[vertex];
+            pathStationNames[position] = stationNames[vertex];
+        }
+        return new NetworkPath(pathStationIds, pathStationNames, distance);
+    }
+
+    /**
+     * 그래프에 있는 간선일 경우 양방향 삭제 예정 횟수를 1씩 늘리고 true 반환
+     */
+    private boolean removeOnce(Map<Long, Map<Integer, Integer>> removals, int up, int down, int distance) {
+        long available = IntStream.range(offsets[up], offsets[up + 1])
+                .filter(edge -> targets[edge] == down && distances[edge] == distance)
+                .count();
+        Map<Integer, Integer> forward = removals.computeIfAbsent(vertexPairKey(up, down), key -> new HashMap<>());
+        if (forward.getOrDefault(distance, 0) >= available) {
+            return false;
+        }
+        forward.merge(distance, 1, Integer::sum);
+        removals.computeIfAbsent(vertexPairKey(down, up), key -> new HashMap<>()).merge(distance, 1, Integer::sum);
+        return true;
+    }
+
+    private static boolean consumeRemoval(Map<Long, Map<Integer, Integer>> removals, int from, int to, int distance) {
+        Map<Integer, Integer> remainingByDistance = removals.get(vertexPairKey(from, to));
+        if (remainingByDistance == null) {
+            return false;
+        }
+        Integer remaining = remainingByDistance.get(distance);
+        if (remaining == null || remaining == 0) {
+            return false;
+        }
+        remainingByDistance.put(distance, remaining - 1);
+        return true;
+    }
+
+    /**
+     * 출발 정점과 도착 정점 번호를 하나의 long 값으로 합친 키
+     */
+    private static long vertexPairKey(int from, int to) {
+        return ((long) from << Integer.SIZE) | (to & 0xFFFFFFFFL);
+    }
+
+    private int vertexOf(long stationId) {
+        int vertex = Arrays.binarySearch(stationIds, stationId);
+        return vertex < 0 ? NO_VERTEX : vertex;
+    }
+
+    private static long[] distinctSorted(long[] upStationIds, long[] downStationIds) {
+        long[] all = new long[upStationIds.length + downStationIds.length];
+        System.arraycopy(upStationIds, 0, all, 0, upStationIds.length);
+        System.arraycopy(downStationIds, 0, all, upStationIds.length, downStationIds.length);
+        return Arrays.stream(all).sorted().distinct().toArray();
+    }
+}
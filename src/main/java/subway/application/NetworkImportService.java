@@ -0,0 +1,253 @@
+package subway.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import subway.dto.ImportStageResponse;
+import subway.dto.NetworkImportResponse;
+import subway.dto.NetworkImportRow;
+import subway.entity.Station;
+import subway.entity.StationLine;
+import subway.entity.StationLineRepository;
+import subway.entity.StationSection;
+import subway.entity.StationsCreatedEvent;
+
+import javax.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 지하철 노선도(역, 노선, 구간) 가져오기
+ * <p>
+ * 행을 하나씩 읽어 기존 생성 규칙(구간 생성자, {@link StationLine#canSectionSave})으로 검증한 뒤 저장하고,
+ * 일정 행마다 영속성 컨텍스트를 flush/clear 하여 파일 크기와 관계없이 영속성 컨텍스트 크기를 일정하게 유지한다.
+ * 검증을 위해 노선별 구간 목록은 메모리에 유지되며, 한 행이라도 실패하면 전체 가져오기가 취소된다.
+ * 노선은 저장소를 거치지 않고 저장하므로 구간별 도메인 이벤트는 버리고, 커밋 이후 조회 모델을 한 번에 다시 생성한다.
+ */
+@Service
+public class NetworkImportService {
+
+    private static final String PARSE_STAGE = "parse";
+    private static final String VALIDATE_STAGE = "validate";
+    private static final String PERSIST_STAGE = "persist";
+    private static final String FLUSH_STAGE = "flush";
+
+    private final EntityManager entityManager;
+    private final StationLineRepository stationLineRepository;
+    private final ResourceVersions resourceVersions;
+    private final LiveStationIds liveStationIds;
+    private final StationUsageIndex stationUsageIndex;
+    private final SubwayNetwork subwayNetwork;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public NetworkImportService(EntityManager entityManager,
+                                StationLineRepository stationLineRepository,
+                                ResourceVersions resourceVersions,
+                                LiveStationIds liveStationIds,
+                                StationUsageIndex stationUsageIndex,
+                                SubwayNetwork subwayNetwork,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${subway.import.batch-size}") int batchSize) {
+        this.entityManager = entityManager;
+        this.stationLineRepository = stationLineRepository;
+        this.resourceVersions = resourceVersions;
+        this.liveStationIds = liveStationIds;
+        this.stationUsageIndex = stationUsageIndex;
+        this.subwayNetwork = subwayNetwork;
+        this.eventPublisher = eventPublisher;
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("가져오기 flush/clear 단위는 1 이상이어야 합니다.");
+        }
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public NetworkImportResponse importNetwork(Iterator<NetworkImportRow> rows) {
+        Import networkImport = new Import();
+
+        while (networkImport.stage(PARSE_STAGE).elapse(rows::hasNext)) {
+            NetworkImportRow row = networkImport.stage(PARSE_STAGE).measure(rows::next);
+            networkImport.importRow(row);
+            if (networkImport.rowCount % batchSize == 0) {
+                networkImport.stage(FLUSH_STAGE).measure(this::flushAndClear);
+            }
+        }
+        networkImport.stage(FLUSH_STAGE).measure(() -> {
+            flushAndClear();
+            networkImport.lines.values().forEach(stationLine ->
+                    stationLineRepository.updateDownStationId(stationLine.getId(), stationLine.getDownStationId()));
+        });
+
+        liveStationIds.addAll(networkImport.stationIds.values());
+        stationUsageIndex.reload();
+        subwayNetwork.reload();
+        eventPublisher.publishEvent(new StationsCreatedEvent(List.copyOf(networkImport.stationIds.values())));
+        resourceVersions.increaseStationsVersion();
+        resourceVersions.increaseStationLinesVersion();
+        return networkImport.toResponse();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private class Import {
+
+        private final Map<String, Long> stationIds = new HashMap<>();
+        private final Map<String, StationLine> lines = new HashMap<>();
+        private final Map<String, Stage> stages = new LinkedHashMap<>();
+        private long rowCount;
+        private int sectionCount;
+
+        private Import() {
+            List.of(PARSE_STAGE, VALIDATE_STAGE, PERSIST_STAGE, FLUSH_STAGE)
+                    .forEach(name -> stages.put(name, new Stage(name)));
+        }
+
+        private Stage stage(String name) {
+            return stages.get(name);
+        }
+
+        private void importRow(NetworkImportRow row) {
+            rowCount++;
+            try {
+                if (NetworkImportRow.STATION.equals(row.getType())) {
+                    importStation(row);
+                } else if (NetworkImportRow.LINE.equals(row.getType())) {
+                    importLine(row);
+                } else if (NetworkImportRow.SECTION.equals(row.getType())) {
+                    importSection(row);
+                } else {
+                    throw new IllegalArgumentException("알 수 없는 행 종류입니다: " + row.getType());
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("%d번째 행: %s", rowCount, e.getMessage()), e);
+            }
+        }
+
+        private void importStation(NetworkImportRow row) {
+            Station station = stage(VALIDATE_STAGE).measure(() -> {
+                validateNewKey(stationIds.containsKey(row.getKey()), row.getKey());
+                validateStationName(row.getName());
+                return new Station(row.getName());
+            });
+            stage(PERSIST_STAGE).measure(() -> entityManager.persist(station));
+            stationIds.put(row.getKey(), station.getId());
+        }
+
+        private void importLine(NetworkImportRow row) {
+            StationLine stationLine = stage(VALIDATE_STAGE).measure(() -> {
+                validateNewKey(lines.containsKey(row.getKey()), row.getKey());
+                StationLine newStationLine = new StationLine(row.getName(), row.getColor(),
+                        findStationId(row.getUpStation()), findStationId(row.getDownStation()), row.getDistance());
+                newStationLine.addSection(new StationSection(newStationLine.getUpStationId(),
+                        newStationLine.getDownStationId(), newStationLine.getDistance(), newStationLine));
+                newStationLine.discardDomainEvents();
+                return newStationLine;
+            });
+            stage(PERSIST_STAGE).measure(() -> entityManager.persist(stationLine));
+            lines.put(row.getKey(), stationLine);
+            sectionCount++;
+        }
+
+        private void importSection(NetworkImportRow row) {
+            StationSection stationSection = stage(VALIDATE_STAGE).measure(() -> {
+                StationLine stationLine = findStationLine(row.getLine());
+                StationSection newStationSection = new StationSection(
+                        findStationId(row.getUpStation()), findStationId(row.getDownStation()), row.getDistance());
+                if (!stationLine.canSectionSave(newStationSection)) {
+                    throw new IllegalArgumentException("요청한 구간을 저장할 수 없습니다.");
+                }
+                newStationSection.setStationLine(stationLine).updateDownStationOfLine();
+                stationLine.discardDomainEvents();
+                return newStationSection;
+            });
+            stage(PERSIST_STAGE).measure(() -> entityManager.persist(stationSection));
+            sectionCount++;
+        }
+
+        private void validateNewKey(boolean duplicated, String key) {
+            if (key == null || duplicated) {
+                throw new IllegalArgumentException("key가 없거나 중복되었습니다: " + key);
+            }
+        }
+
+        private void validateStationName(String name) {
+            if (name == null || name.isBlank() || name.length() > Station.NAME_MAX_LENGTH) {
+                throw new IllegalArgumentException(
+                        String.format("역 이름은 1자 이상 %d자 이하여야 합니다: %s", Station.NAME_MAX_LENGTH, name));
+            }
+        }
+
+        private Long findStationId(String stationKey) {
+            Long stationId = stationIds.get(stationKey);
+            if (stationId == null) {
+                throw new IllegalArgumentException("앞서 등록되지 않은 역입니다: " + stationKey);
+            }
+            return stationId;
+        }
+
+        private StationLine findStationLine(String lineKey) {
+            StationLine stationLine = lines.get(lineKey);
+            if (stationLine == null) {
+                throw new IllegalArgumentException("앞서 등록되지 않은 노선입니다: " + lineKey);
+            }
+            return stationLine;
+        }
+
+        private NetworkImportResponse toResponse() {
+            return new NetworkImportResponse(stationIds.size(), lines.size(), sectionCount,
+                    stages.values().stream()
+                            .map(Stage::toResponse)
+                            .collect(Collectors.toList()));
+        }
+    }
+
+    private static class Stage {
+
+        private final String name;
+        private long count;
+        private long elapsedNanos;
+
+        private Stage(String name) {
+            this.name = name;
+        }
+
+        private void measure(Runnable action) {
+            measure(() -> {
+                action.run();
+                return null;
+            });
+        }
+
+        private <T> T measure(Supplier<T> action) {
+            T result = elapse(action);
+            count++;
+            return result;
+        }
+
+        private <T> T elapse(Supplier<T> action) {
+            long startedAt = System.nanoTime();
+            try {
+                return action.get();
+            } finally {
+                elapsedNanos += System.nanoTime() - startedAt;
+            }
+        }
+
+        private ImportStageResponse toResponse() {
+            double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+            double throughput = elapsedSeconds == 0 ? 0 : count / elapsedSeconds;
+            return new ImportStageResponse(name, count, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughput);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package subway.application;
+
+/**
+ * 최단 경로 탐색 결과, 출발역부터 도착역까지의 역과 총 거리
+ */
+public final class NetworkPath {
+
+    private final long[] stationIds;
+
+    private final String[] stationNames;
+
+    private final long distance;
+
+    NetworkPath(long[] stationIds, String[] stationNames, long distance) {
+        this.stationIds = stationIds;
+        this.stationNames = stationNames;
+        this.distance = distance;
+    }
+
+    public int getStationCount() {
+        return stationIds.length;
+    }
+
+    public long getStationId(int position) {
+        return stationIds[position];
+    }
+
+    public String getStationName(int position) {
+        return stationNames[position];
+    }
+
+    public long getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,98 @@
+package subway.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌 시 작업을 제한된 횟수만큼 지수 백오프로 재시도
+ * <p>
+ * 작업은 시도마다 새 트랜잭션에서 실행되어야 하며, 시도/충돌/재시도 소진 횟수는
+ * {@code subway.optimistic-lock.*} 메트릭으로 노출된다.
+ */
+@Component
+public class OptimisticLockRetrier {
+
+    public static final String ATTEMPTS_METRIC = "subway.optimistic-lock.attempts";
+
+    public static final String CONFLICTS_METRIC = "subway.optimistic-lock.conflicts";
+
+    public static final String EXHAUSTED_METRIC = "subway.optimistic-lock.exhausted";
+
+    private final MeterRegistry meterRegistry;
+
+    private final int maxAttempts;
+
+    private final Duration backoff;
+
+    public OptimisticLockRetrier(MeterRegistry meterRegistry,
+                                 @Value("${subway.optimistic-lock.max-attempts}") int maxAttempts,
+                                 @Value("${subway.optimistic-lock.backoff}") Duration backoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("최대 시도 횟수는 1 이상이어야 합니다.");
+        }
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+    }
+
+    /**
+     * 충돌이 발생하지 않을 때까지 작업을 실행
+     *
+     * @param operation 메트릭 태그로 사용할 작업 이름
+     * @param action    한 번의 시도(새 트랜잭션)로 실행할 작업
+     * @return 작업 결과
+     * @throws OptimisticLockingFailureException 최대 시도 횟수만큼 충돌한 경우
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        Counter attempts = counter(ATTEMPTS_METRIC, operation);
+        Counter conflicts = counter(CONFLICTS_METRIC, operation);
+
+        for (int attempt = 1; ; attempt++) {
+            attempts.increment();
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    counter(EXHAUSTED_METRIC, operation).increment();
+                    throw e;
+                }
+                sleepBeforeRetry(attempt, e);
+            }
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 시도 횟수에 따라 두 배씩 늘어나는 시간에 무작위 지연(jitter)을 더해 대기
+     */
+    private void sleepBeforeRetry(int attempt, OptimisticLockingFailureException conflict) {
+        long baseMillis = backoff.toMillis() << (attempt - 1);
+        long sleepMillis = baseMillis + ThreadLocalRandom.current().nextLong(baseMillis + 1);
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,91 @@
+package subway.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 최단 경로 탐색 결과를 (출발역, 도착역, 노선도 그래프 버전) 단위로 보관하는 캐시(크기 제한)
+ * <p>
+ * 구간이 변경되면 그래프 버전이 증가하므로 이전 버전의 결과는 더 이상 조회되지 않고 크기 제한에 의해 제거된다.
+ * 같은 키에 대한 동시 조회는 한 번만 탐색하며, 적중/실패 횟수는 {@code cache.*}, 탐색 시간은 {@code subway.path.compute} 메트릭으로 노출된다.
+ */
+@Component
+public class PathCache {
+
+    public static final String CACHE_NAME = "paths";
+
+    public static final String COMPUTE_METRIC = "subway.path.compute";
+
+    private final Cache<Key, Optional<NetworkPath>> cache;
+
+    private final Timer computeTimer;
+
+    public PathCache(MeterRegistry meterRegistry,
+                     @Value("${subway.cache.path.maximum-size}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.computeTimer = Timer.builder(COMPUTE_METRIC)
+                .description("캐시에 없는 최단 경로를 탐색하는 데 걸린 시간")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 주어진 그래프에서 두 역 사이의 최단 경로 조회, 캐시에 없으면 탐색 후 저장(연결되지 않은 경우도 저장)
+     *
+     * @param graph  노선도 그래프
+     * @param source 출발역 ID
+     * @param target 도착역 ID
+     * @return 최단 경로, 연결되어 있지 않으면 빈 값
+     */
+    public Optional<NetworkPath> findShortestPath(NetworkGraph graph, long source, long target) {
+        return cache.get(new Key(source, target, graph.getVersion()),
+                key -> computeTimer.record(() -> graph.findShortestPath(source, target)));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private static final class Key {
+
+        private final long source;
+
+        private final long target;
+
+        private final long version;
+
+        private Key(long source, long target, long version) {
+            this.source = source;
+            this.target = target;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return source == key.source && target == key.target && version == key.version;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, target, version);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package subway.application;
+
+import org.springframework.stereotype.Service;
+import subway.dto.PathResponse;
+import subway.dto.StationResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class PathService {
+
+    private final SubwayNetwork subwayNetwork;
+
+    private final PathCache pathCache;
+
+    public PathService(SubwayNetwork subwayNetwork, PathCache pathCache) {
+        this.subwayNetwork = subwayNetwork;
+        this.pathCache = pathCache;
+    }
+
+    /**
+     * 두 역 사이의 최단 경로를 메모리에 보관된 노선도 그래프에서 조회, 같은 그래프 버전의 결과는 캐시에서 반환
+     *
+     * @param source 출발역 ID
+     * @param target 도착역 ID
+     * @return 출발역부터 도착역까지의 역 목록과 총 거리
+     * @throws IllegalArgumentException 두 역이 같거나, 노선에 포함되지 않았거나, 서로 연결되어 있지 않은 경우
+     */
+    public PathResponse findShortestPath(Long source, Long target) {
+        if (source.equals(target)) {
+            throw new IllegalArgumentException("출발역과 도착역이 같습니다.");
+        }
+        NetworkGraph graph = subwayNetwork.getGraph();
+        if (!graph.contains(source) || !graph.contains(target)) {
+            throw new IllegalArgumentException("출발역 또는 도착역이 노선에 포함되어 있지 않습니다.");
+        }
+        NetworkPath path = pathCache.findShortestPath(graph, source, target)
+                .orElseThrow(() -> new IllegalArgumentException("출발역과 도착역이 연결되어 있지 않습니다."));
+        return convertToResponse(path);
+    }
+
+    private PathResponse convertToResponse(NetworkPath path) {
+        List<StationResponse> stations = new ArrayList<>(path.getStationCount());
+        for (int position = 0; position < path.getStationCount(); position++) {
+            stations.add(new StationResponse(path.getStationId(position), path.getStationName(position)));
+        }
+        return new PathResponse(stations, path.getDistance());
+    }
+}
@@ -0,0 +1,54 @@
+package subway.application;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.config.ProjectionExecutorConfig;
+import subway.entity.StationLineChangedEvent;
+import subway.entity.StationsCreatedEvent;
+import subway.entity.StationsDeletedEvent;
+
+/**
+ * 커밋된 도메인 이벤트를 전용 실행기에서 받아 조회 모델을 갱신
+ * <p>
+ * 변경된 노선의 스냅샷 무효화는 커밋 직후 동기로 처리되며({@link StationLineSnapshots}), 여기서는 무효화된 스냅샷을 미리 다시 만든다.
+ * 갱신이 끝나기 전의 조회는 DB에서 직접 스냅샷을 생성하므로, 쓰기 요청의 응답 시간에는 영향을 주지 않는다.
+ */
+@Component
+public class ReadModelProjector {
+
+    private final StationLineService stationLineService;
+
+    private final StationCache stationCache;
+
+    private final LiveStationIds liveStationIds;
+
+    public ReadModelProjector(StationLineService stationLineService,
+                              StationCache stationCache,
+                              LiveStationIds liveStationIds) {
+        this.stationLineService = stationLineService;
+        this.stationCache = stationCache;
+        this.liveStationIds = liveStationIds;
+    }
+
+    @Async(ProjectionExecutorConfig.PROJECTION_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StationLineChangedEvent event) {
+        stationLineService.refreshSnapshot(event.getStationLineId());
+    }
+
+    /**
+     * 새로 생성된 지하철역을 캐시에 미리 적재
+     */
+    @Async(ProjectionExecutorConfig.PROJECTION_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StationsCreatedEvent event) {
+        stationCache.findAll(event.getStationIds());
+    }
+
+    @Async(ProjectionExecutorConfig.PROJECTION_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StationsDeletedEvent event) {
+        liveStationIds.removeAll(event.getStationIds());
+    }
+}
@@ -0,0 +1,62 @@
+package subway.application;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지하철역, 지하철 노선 조회 결과의 버전 관리 및 ETag 생성
+ * <p>
+ * 변경이 커밋된 이후 버전이 증가하며, ETag에는 애플리케이션 시작 시점이 포함되어 재시작 이전의 ETag와 겹치지 않는다.
+ * ETag는 데이터를 조회하기 전에 생성해야, 조회 도중 변경된 데이터에 이전 ETag가 붙지 않는다.
+ */
+@Component
+public class ResourceVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private final AtomicLong stationsVersion = new AtomicLong();
+
+    private final AtomicLong stationLinesVersion = new AtomicLong();
+
+    private final StationLineSnapshots stationLineSnapshots;
+
+    public ResourceVersions(StationLineSnapshots stationLineSnapshots) {
+        this.stationLineSnapshots = stationLineSnapshots;
+    }
+
+    public String stationsETag() {
+        return String.format("\"stations-%s-%d\"", epoch, stationsVersion.get());
+    }
+
+    /**
+     * 지하철 노선 목록의 ETag, 노선 표시에 역 이름이 포함되므로 지하철역 버전도 포함
+     */
+    public String stationLinesETag() {
+        return String.format("\"lines-%s-%d-%d\"", epoch, stationLinesVersion.get(), stationsVersion.get());
+    }
+
+    /**
+     * 지하철 노선의 ETag, 노선 스냅샷의 리비전과 지하철역 버전으로 구성
+     *
+     * @param stationLineId 지하철 노선 ID
+     */
+    public String stationLineETag(Long stationLineId) {
+        return String.format("\"line-%d-%s-%d-%d\"",
+                stationLineId, epoch, stationLineSnapshots.revision(stationLineId), stationsVersion.get());
+    }
+
+    /**
+     * 커밋 이후 지하철역 버전 증가
+     */
+    public void increaseStationsVersion() {
+        TransactionCallbacks.afterCommit(stationsVersion::incrementAndGet);
+    }
+
+    /**
+     * 커밋 이후 지하철 노선 목록 버전 증가(노선별 리비전은 {@link StationLineSnapshots}에서 증가)
+     */
+    public void increaseStationLinesVersion() {
+        TransactionCallbacks.afterCommit(stationLinesVersion::incrementAndGet);
+    }
+}
@@ -0,0 +1,83 @@
+package subway.application;
+
+import java.util.Arrays;
+
+/**
+ * 최단 경로 탐색에 사용하는 정점별 작업 배열, 스레드마다 하나를 두고 탐색할 때마다 재사용
+ * <p>
+ * 탐색마다 배열 전체를 초기화하지 않고 세대 번호(stamp)로 이번 탐색에서 기록한 값인지 구분하므로,
+ * 탐색 비용은 그래프 크기가 아니라 탐색한 정점 수에 비례한다. 배열은 지금까지 탐색한 가장 큰 그래프 크기로 유지된다.
+ */
+final class ShortestPathScratch {
+
+    private static final int NO_VERTEX = -1;
+
+    private long[] distances = new long[0];
+
+    private int[] previous = new int[0];
+
+    /**
+     * 정점별 기록 세대, {@code generation}이면 이번 탐색에서 도달, {@code generation + 1}이면 거리 확정
+     */
+    private int[] stamps = new int[0];
+
+    private IndexedMinHeap heap = new IndexedMinHeap(0);
+
+    private int generation;
+
+    /**
+     * 새 탐색 시작, 이전 탐색의 기록은 세대 번호만 올려 무효화
+     *
+     * @param vertexCount 탐색할 그래프의 정점 수
+     */
+    void reset(int vertexCount) {
+        heap.clear();
+        if (stamps.length < vertexCount) {
+            distances = new long[vertexCount];
+            previous = new int[vertexCount];
+            stamps = new int[vertexCount];
+            heap = new IndexedMinHeap(vertexCount);
+            generation = 0;
+        }
+        if (generation > Integer.MAX_VALUE - 3) {
+            Arrays.fill(stamps, 0);
+            generation = 0;
+        }
+        generation += 2;
+    }
+
+    IndexedMinHeap heap() {
+        return heap;
+    }
+
+    /**
+     * 이번 탐색에서 도달한 정점의 거리, 도달하지 않은 정점은 {@link Long#MAX_VALUE}
+     */
+    long distanceOf(int vertex) {
+        return stamps[vertex] >= generation ? distances[vertex] : Long.MAX_VALUE;
+    }
+
+    /**
+     * 이번 탐색에서 직전 정점, 출발 정점이거나 도달하지 않은 정점은 -1
+     */
+    int previousOf(int vertex) {
+        return stamps[vertex] >= generation ? previous[vertex] : NO_VERTEX;
+    }
+
+    boolean isSettled(int vertex) {
+        return stamps[vertex] == generation + 1;
+    }
+
+    /**
+     * 정점까지의 (더 짧은) 거리와 직전 정점 기록
+     */
+    void reach(int vertex, long distance, int previousVertex) {
+        distances[vertex] = distance;
+        previous[vertex] = previousVertex;
+        stamps[vertex] = generation;
+    }
+
+    void settle(int vertex) {
+        stamps[vertex] = generation + 1;
+    }
+}
@@ -0,0 +1,93 @@
+package subway.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import subway.entity.Station;
+import subway.entity.StationRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 지하철역 조회 결과를 보관하는 캐시(크기 제한, W-TinyLFU 제거, 쓰기 후 만료)
+ * <p>
+ * 존재하지 않는 역은 캐시하지 않으며, 적중/실패/제거 횟수는 {@code cache.*} 메트릭으로 노출된다.
+ */
+@Component
+public class StationCache {
+
+    public static final String CACHE_NAME = "stations";
+
+    private final StationRepository stationRepository;
+
+    private final Cache<Long, Station> cache;
+
+    public StationCache(StationRepository stationRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${subway.cache.station.maximum-size}") long maximumSize,
+                        @Value("${subway.cache.station.expire-after-write}") Duration expireAfterWrite) {
+        this.stationRepository = stationRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<Station> find(Long stationId) {
+        return Optional.ofNullable(cache.get(stationId, id -> stationRepository.findById(id).orElse(null)));
+    }
+
+    /**
+     * 주어진 ID에 해당하는 지하철역을 반환하며, 캐시에 없는 역은 한 번의 쿼리로 조회
+     *
+     * @param stationIds 지하철역 ID 목록
+     * @return 지하철역 ID를 키로 하는 Map(존재하지 않는 역은 포함되지 않음)
+     */
+    public Map<Long, Station> findAll(Iterable<Long> stationIds) {
+        return cache.getAll(stationIds, this::loadAll);
+    }
+
+    /**
+     * 지하철역 캐시 제거, 트랜잭션 진행 중일 경우 커밋 이후 한번 더 제거
+     *
+     * @param stationId 제거할 지하철역 ID
+     */
+    public void evict(Long stationId) {
+        cache.invalidate(stationId);
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(stationId));
+    }
+
+    /**
+     * 주어진 지하철역 캐시 일괄 제거, 트랜잭션 진행 중일 경우 커밋 이후 한번 더 제거
+     *
+     * @param stationIds 제거할 지하철역 ID 목록
+     */
+    public void evictAll(Collection<Long> stationIds) {
+        cache.invalidateAll(stationIds);
+        TransactionCallbacks.afterCommit(() -> cache.invalidateAll(stationIds));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private Map<Long, Station> loadAll(Iterable<? extends Long> stationIds) {
+        List<Long> idsToLoad = new ArrayList<>();
+        stationIds.forEach(idsToLoad::add);
+
+        return stationRepository.findAllById(idsToLoad).stream()
+                .collect(Collectors.toMap(Station::getId, Function.identity()));
+    }
+}
@@ -1,62 +1,237 @@
 package subway.application;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.config.ReplicationRoutingDataSource;
+import subway.dto.StationLineDistanceResponse;
 import subway.dto.StationLineRequest;
 import subway.dto.StationLineResponse;
-import subway.dto.StationResponse;
 import subway.entity.*;
 
+import javax.persistence.EntityManager;
 import javax.persistence.EntityNotFoundException;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class StationLineService {
 
-    private final StationRepository stationRepository;
+    public static final int STREAM_CHUNK_SIZE = 100;
+
+    private final StationCache stationCache;
 
     private final StationLineRepository stationLineRepository;
 
-    public StationLineService(StationRepository stationRepository, StationLineRepository stationLineRepository) {
-        this.stationRepository = stationRepository;
+    private final StationLineSnapshots stationLineSnapshots;
+
+    private final ResourceVersions resourceVersions;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final StationUsageIndex stationUsageIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 스냅샷으로 저장할 노선을 프라이머리에서 읽기 위한 새 읽기 전용 트랜잭션
+     */
+    private final TransactionTemplate primaryReadTransactionTemplate;
+
+    public StationLineService(StationCache stationCache,
+                              StationLineRepository stationLineRepository,
+                              StationLineSnapshots stationLineSnapshots,
+                              ResourceVersions resourceVersions,
+                              EntityManager entityManager,
+                              ObjectMapper objectMapper,
+                              StationUsageIndex stationUsageIndex,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager) {
+        this.stationCache = stationCache;
         this.stationLineRepository = stationLineRepository;
+        this.stationLineSnapshots = stationLineSnapshots;
+        this.resourceVersions = resourceVersions;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.stationUsageIndex = stationUsageIndex;
+        this.eventPublisher = eventPublisher;
+        this.primaryReadTransactionTemplate = new TransactionTemplate(transactionManager);
+        primaryReadTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        primaryReadTransactionTemplate.setReadOnly(true);
     }
 
     @Transactional
     public StationLineResponse createStationLine(StationLineRequest request) {
         StationLine stationLine = convertToStationLineEntity(request);
         stationLine.addSection(convertToSectionEntity(stationLine));
-        return convertToLineResponse(stationLineRepository.save(stationLine));
+
+        StationLine savedStationLine = stationLineRepository.save(stationLine);
+        stationUsageIndex.index(savedStationLine);
+        resourceVersions.increaseStationLinesVersion();
+        return stationLineSnapshots.create(savedStationLine).toResponse();
     }
 
     public List<StationLineResponse> findAllStationLines() {
-        return stationLineRepository.findAll().stream()
-                .map(this::convertToLineResponse)
+        List<StationLine> stationLines = stationLineRepository.findAllWithSections();
+        Map<Long, Station> stations = findStations(stationLines);
+
+        return stationLines.stream()
+                .map(stationLine -> StationLineSnapshot.of(stationLine, stations).toResponse())
                 .collect(Collectors.toList());
     }
 
-    public StationLineResponse findStationLineById(Long stationLineId) {
-        return convertToLineResponse(stationLineRepository.findById(stationLineId)
-                .orElseThrow(EntityNotFoundException::new));
+    /**
+     * 모든 지하철 노선을 ID 순서로 하나씩 완성되는 즉시 전달
+     * <p>
+     * 노선 ID 목록을 일정 크기로 나누어, 스냅샷이 없는 노선만 한 번의 쿼리로 조회하고 조회가 끝날 때마다 영속성 컨텍스트를 비운다.
+     *
+     * @param consumer 지하철 노선 정보를 전달받을 consumer
+     */
+    public void streamAllStationLines(Consumer<StationLineResponse> consumer) {
+        List<Long> stationLineIds = stationLineRepository.findAllIds();
+        for (int from = 0; from < stationLineIds.size(); from += STREAM_CHUNK_SIZE) {
+            List<Long> chunk = stationLineIds.subList(from, Math.min(from + STREAM_CHUNK_SIZE, stationLineIds.size()));
+            findSnapshots(chunk).forEach(snapshot -> consumer.accept(snapshot.toResponse()));
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * JSON으로 직렬화된 지하철 노선 조회
+     * <p>
+     * 스냅샷이 존재할 경우 DB 조회 없이 스냅샷에 보관된 직렬화 결과를 그대로 반환한다.
+     *
+     * @param stationLineId 지하철 노선 ID
+     * @return JSON으로 직렬화된 지하철 노선 정보
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public byte[] findStationLineJsonById(Long stationLineId) {
+        return findSnapshot(stationLineId).toJson(objectMapper);
+    }
+
+    /**
+     * 지하철 노선에 포함된 두 역 사이의 거리 조회
+     * <p>
+     * 스냅샷에 보관된 누적 거리로 계산하므로, 스냅샷이 존재할 경우 구간 수와 관계없이 DB 조회 없이 반환한다.
+     *
+     * @param stationLineId 지하철 노선 ID
+     * @param fromStationId 출발역 ID
+     * @param toStationId   도착역 ID
+     * @return 두 역 사이의 거리
+     * @throws IllegalArgumentException 역이 노선에 포함되어 있지 않은 경우
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public StationLineDistanceResponse findDistance(Long stationLineId, Long fromStationId, Long toStationId) {
+        int distance = findSnapshot(stationLineId).getDistanceBetween(fromStationId, toStationId);
+        return new StationLineDistanceResponse(stationLineId, fromStationId, toStationId, distance);
     }
 
     @Transactional
     public void updateStationLine(Long stationLineId, StationLineRequest request) {
         StationLine stationLine = stationLineRepository.findById(stationLineId)
                 .orElseThrow(EntityNotFoundException::new);
-        convertToLineResponse(updateStationLine(request, stationLine));
+        stationLineRepository.save(updateStationLine(request, stationLine));
+        resourceVersions.increaseStationLinesVersion();
     }
 
     @Transactional
     public void deleteStationLine(Long stationLineId) {
         stationLineRepository.deleteById(stationLineId);
+        eventPublisher.publishEvent(new StationLineDeletedEvent(stationLineId));
+        stationUsageIndex.remove(stationLineId);
+        resourceVersions.increaseStationLinesVersion();
+    }
+
+    /**
+     * 무효화된 지하철 노선 스냅샷을 다시 생성, 이미 생성되었거나 삭제된 노선은 무시
+     * <p>
+     * 레플리카 지연으로 오래된 스냅샷이 저장되지 않도록 쓰기 트랜잭션(프라이머리)에서 조회한다.
+     *
+     * @param stationLineId 지하철 노선 ID
+     */
+    @Transactional
+    public void refreshSnapshot(Long stationLineId) {
+        if (stationLineSnapshots.find(stationLineId).isPresent()) {
+            return;
+        }
+        long revision = stationLineSnapshots.revision(stationLineId);
+        stationLineRepository.findWithSectionsById(stationLineId).ifPresent(stationLine ->
+                stationLineSnapshots.register(stationLineId, revision, stationLineSnapshots.create(stationLine)));
     }
 
-    private StationResponse findStation(Long stationId) {
-        return convertToStationResponse(stationRepository.findById(stationId).orElseThrow(IllegalArgumentException::new));
+    private StationLineSnapshot findSnapshot(Long stationLineId) {
+        return stationLineSnapshots.find(stationLineId)
+                .orElseGet(() -> loadSnapshot(stationLineId));
+    }
+
+    private StationLineSnapshot loadSnapshot(Long stationLineId) {
+        long revision = stationLineSnapshots.revision(stationLineId);
+        StationLineSnapshot snapshot = readFromPrimary(() -> stationLineRepository.findWithSectionsById(stationLineId)
+                .map(stationLineSnapshots::create))
+                .orElseThrow(EntityNotFoundException::new);
+
+        stationLineSnapshots.register(stationLineId, revision, snapshot);
+        return snapshot;
+    }
+
+    private List<StationLineSnapshot> findSnapshots(List<Long> stationLineIds) {
+        Map<Long, StationLineSnapshot> snapshots = new HashMap<>();
+        Map<Long, Long> revisionsOfMissing = new HashMap<>();
+        for (Long stationLineId : stationLineIds) {
+            stationLineSnapshots.find(stationLineId).ifPresentOrElse(
+                    snapshot -> snapshots.put(stationLineId, snapshot),
+                    () -> revisionsOfMissing.put(stationLineId, stationLineSnapshots.revision(stationLineId)));
+        }
+
+        if (!revisionsOfMissing.isEmpty()) {
+            List<StationLineSnapshot> loadedSnapshots = readFromPrimary(() -> {
+                List<StationLine> stationLines =
+                        stationLineRepository.findAllWithSectionsByIdIn(revisionsOfMissing.keySet());
+                Map<Long, Station> stations = findStations(stationLines);
+                return stationLines.stream()
+                        .map(stationLine -> StationLineSnapshot.of(stationLine, stations))
+                        .collect(Collectors.toList());
+            });
+            for (StationLineSnapshot snapshot : loadedSnapshots) {
+                stationLineSnapshots.register(snapshot.getId(), revisionsOfMissing.get(snapshot.getId()), snapshot);
+                snapshots.put(snapshot.getId(), snapshot);
+            }
+        }
+
+        return stationLineIds.stream()
+                .map(snapshots::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 스냅샷으로 저장할 노선은 레플리카 지연으로 오래된 값이 새 리비전에 고정되지 않도록 프라이머리에서 새 트랜잭션으로 조회
+     */
+    private <T> T readFromPrimary(Supplier<T> action) {
+        return ReplicationRoutingDataSource.readFromPrimary(
+                () -> primaryReadTransactionTemplate.execute(status -> action.get()));
+    }
+
+    private Map<Long, Station> findStations(List<StationLine> stationLines) {
+        Set<Long> stationIds = stationLines.stream()
+                .flatMap(stationLine -> stationLine.getSections().getStationIds().stream())
+                .collect(Collectors.toSet());
+
+        return stationCache.findAll(stationIds);
     }
 
     private StationLine updateStationLine(StationLineRequest request, StationLine stationLine) {
@@ -75,14 +250,6 @@ public class StationLineService {
                 request.getDistance());
     }
 
-    private StationLineResponse convertToLineResponse(StationLine stationLine) {
-        return new StationLineResponse(
-                stationLine.getId(),
-                stationLine.getName(),
-                stationLine.getColor(),
-                convertToStationResponses(stationLine.getSections()));
-    }
-
     private StationSection convertToSectionEntity(StationLine stationLine) {
         return new StationSection(
                 stationLine.getUpStationId(),
@@ -90,20 +257,4 @@ public class StationLineService {
                 stationLine.getDistance(),
                 stationLine);
     }
-
-    private StationResponse convertToStationResponse(Station station) {
-        return new StationResponse(
-                station.getId(),
-                station.getName()
-        );
-    }
-
-    private List<StationResponse> convertToStationResponses(StationSections stationSections) {
-        List<StationResponse> stationResponses = new ArrayList<>();
-        stationResponses.add(findStation(stationSections.findFirstUpStation()));
-        stationSections.getSections()
-                .forEach(stationSection -> stationResponses.add(findStation(stationSection.getDownStationId())));
-
-        return stationResponses;
-    }
 }
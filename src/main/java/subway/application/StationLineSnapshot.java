@@ -0,0 +1,170 @@
+package subway.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import subway.dto.StationLineResponse;
+import subway.dto.StationResponse;
+import subway.entity.Station;
+import subway.entity.StationLine;
+import subway.entity.StationSection;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지하철 노선의 불변 스냅샷
+ * <p>
+ * 상행 종점역부터 하행 종점역까지의 역 ID, 역 이름, 상행 종점역으로부터의 누적 거리를 배열로 보관한다.
+ * 역 ID → 위치 Map을 함께 보관하므로 두 역 사이의 거리는 누적 거리의 차이로 바로 계산된다.
+ */
+public final class StationLineSnapshot {
+
+    private final Long id;
+
+    private final String name;
+
+    private final String color;
+
+    private final long[] stationIds;
+
+    private final String[] stationNames;
+
+    private final int[] cumulativeDistances;
+
+    private final Map<Long, Integer> positions;
+
+    private volatile byte[] json;
+
+    private StationLineSnapshot(Long id, String name, String color,
+                                long[] stationIds, String[] stationNames, int[] cumulativeDistances) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+        this.stationIds = stationIds;
+        this.stationNames = stationNames;
+        this.cumulativeDistances = cumulativeDistances;
+        this.positions = new HashMap<>(stationIds.length * 2);
+        for (int position = 0; position < stationIds.length; position++) {
+            positions.put(stationIds[position], position);
+        }
+    }
+
+    /**
+     * 지하철 노선 엔티티와 역 정보로부터 스냅샷 생성
+     *
+     * @param stationLine 지하철 노선 엔티티(구간 목록 포함)
+     * @param stations    지하철역 ID를 키로 하는 지하철역 Map
+     * @return 생성된 스냅샷
+     * @throws IllegalArgumentException 구간에 포함된 역이 존재하지 않을 경우
+     */
+    public static StationLineSnapshot of(StationLine stationLine, Map<Long, Station> stations) {
+        List<Long> orderedStationIds = stationLine.getSections().getStationIds();
+        List<StationSection> sections = stationLine.getSections().getOrderedSections();
+
+        long[] stationIds = new long[orderedStationIds.size()];
+        String[] stationNames = new String[orderedStationIds.size()];
+        int[] cumulativeDistances = new int[orderedStationIds.size()];
+
+        for (int i = 0; i < stationIds.length; i++) {
+            stationIds[i] = orderedStationIds.get(i);
+            stationNames[i] = findStation(stations, orderedStationIds.get(i)).getName();
+            if (i > 0) {
+                cumulativeDistances[i] = cumulativeDistances[i - 1] + sections.get(i - 1).getDistance();
+            }
+        }
+        return new StationLineSnapshot(stationLine.getId(), stationLine.getName(), stationLine.getColor(),
+                stationIds, stationNames, cumulativeDistances);
+    }
+
+    private static Station findStation(Map<Long, Station> stations, Long stationId) {
+        Station station = stations.get(stationId);
+        if (station == null) {
+            throw new IllegalArgumentException();
+        }
+        return station;
+    }
+
+    public StationLineResponse toResponse() {
+        List<StationResponse> stationResponses = new ArrayList<>(stationIds.length);
+        for (int i = 0; i < stationIds.length; i++) {
+            stationResponses.add(new StationResponse(stationIds[i], stationNames[i]));
+        }
+        return new StationLineResponse(id, name, color, stationResponses);
+    }
+
+    /**
+     * 응답을 JSON으로 직렬화한 결과 반환, 스냅샷은 불변이므로 최초 직렬화 결과를 재사용
+     * <p>
+     * 노선이 변경되면 스냅샷 자체가 교체되므로 직렬화 결과도 함께 무효화된다.
+     *
+     * @param objectMapper 응답 직렬화에 사용할 ObjectMapper
+     * @return JSON으로 직렬화된 응답(UTF-8)
+     */
+    public byte[] toJson(ObjectMapper objectMapper) {
+        byte[] cachedJson = json;
+        if (cachedJson == null) {
+            cachedJson = writeJson(objectMapper);
+            json = cachedJson;
+        }
+        return cachedJson;
+    }
+
+    private byte[] writeJson(ObjectMapper objectMapper) {
+        try {
+            return objectMapper.writeValueAsBytes(toResponse());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public int getStationCount() {
+        return stationIds.length;
+    }
+
+    public long getStationId(int position) {
+        return stationIds[position];
+    }
+
+    public String getStationName(int position) {
+        return stationNames[position];
+    }
+
+    public int getCumulativeDistance(int position) {
+        return cumulativeDistances[position];
+    }
+
+    /**
+     * 노선에 포함된 두 역 사이의 거리(방향 무관)
+     *
+     * @param fromStationId 출발역 ID
+     * @param toStationId   도착역 ID
+     * @return 두 역의 누적 거리 차이
+     * @throws IllegalArgumentException 역이 노선에 포함되어 있지 않은 경우
+     */
+    public int getDistanceBetween(Long fromStationId, Long toStationId) {
+        return Math.abs(cumulativeDistances[positionOf(toStationId)] - cumulativeDistances[positionOf(fromStationId)]);
+    }
+
+    private int positionOf(Long stationId) {
+        Integer position = positions.get(stationId);
+        if (position == null) {
+            throw new IllegalArgumentException("노선에 포함되어 있지 않은 역입니다: " + stationId);
+        }
+        return position;
+    }
+}
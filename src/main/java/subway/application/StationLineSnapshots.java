@@ -0,0 +1,117 @@
+package subway.application;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.entity.StationLine;
+import subway.entity.StationLineChangedEvent;
+import subway.entity.StationLineDeletedEvent;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지하철 노선별 스냅샷 저장소
+ * <p>
+ * 노선마다 리비전을 관리하며, 노선이 변경될 때마다 리비전이 증가한다.
+ * 조회 중 DB에서 읽어온 스냅샷은 읽기 시작 시점의 리비전이 그대로일 때만 저장되므로, 동시에 변경된 노선의 오래된 스냅샷이 남지 않는다.
+ */
+@Component
+public class StationLineSnapshots {
+
+    private final StationCache stationCache;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public StationLineSnapshots(StationCache stationCache) {
+        this.stationCache = stationCache;
+    }
+
+    public Optional<StationLineSnapshot> find(Long stationLineId) {
+        Entry entry = entries.get(stationLineId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entry.snapshot);
+    }
+
+    public long revision(Long stationLineId) {
+        return revisionOf(entries.get(stationLineId));
+    }
+
+    /**
+     * 지하철 노선 엔티티로부터 스냅샷 생성
+     *
+     * @param stationLine 지하철 노선 엔티티(구간 목록 포함)
+     * @return 생성된 스냅샷
+     */
+    public StationLineSnapshot create(StationLine stationLine) {
+        return StationLineSnapshot.of(stationLine, stationCache.findAll(stationLine.getSections().getStationIds()));
+    }
+
+    /**
+     * 조회 시작 시점의 리비전이 변경되지 않았을 경우에만 스냅샷 저장
+     *
+     * @param stationLineId 지하철 노선 ID
+     * @param revision      조회 시작 시점의 리비전
+     * @param snapshot      저장할 스냅샷
+     */
+    public void register(Long stationLineId, long revision, StationLineSnapshot snapshot) {
+        entries.compute(stationLineId, (id, entry) -> {
+            if (revisionOf(entry) != revision) {
+                return entry;
+            }
+            return new Entry(revision, snapshot);
+        });
+    }
+
+    /**
+     * 노선이 변경되면 커밋 직후 리비전을 증가시키며 스냅샷 제거(다시 생성은 {@link ReadModelProjector}가 담당)
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StationLineChangedEvent event) {
+        evict(event.getStationLineId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StationLineDeletedEvent event) {
+        evict(event.getStationLineId());
+    }
+
+    /**
+     * 리비전을 증가시키며 스냅샷 제거
+     *
+     * @param stationLineId 지하철 노선 ID
+     */
+    public void evict(Long stationLineId) {
+        replace(stationLineId, null);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void replace(Long stationLineId, StationLineSnapshot snapshot) {
+        entries.compute(stationLineId, (id, entry) -> new Entry(revisionOf(entry) + 1, snapshot));
+    }
+
+    private static long revisionOf(Entry entry) {
+        return entry == null ? 0 : entry.revision;
+    }
+
+    private static final class Entry {
+
+        private final long revision;
+
+        private final StationLineSnapshot snapshot;
+
+        private Entry(long revision, StationLineSnapshot snapshot) {
+            this.revision = revision;
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -1,31 +1,69 @@
 package subway.application;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import subway.dto.StationSectionRequest;
 import subway.dto.StationSectionResponse;
 import subway.entity.*;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
 public class StationSectionService {
 
+    private final LiveStationIds liveStationIds;
     private final StationRepository stationRepository;
     private final StationLineRepository stationLineRepository;
     private final StationSectionRepository stationSectionRepository;
+    private final ResourceVersions resourceVersions;
+    private final OptimisticLockRetrier optimisticLockRetrier;
+    private final TransactionTemplate transactionTemplate;
+    private final LineWriteSequencer lineWriteSequencer;
+    private final StationUsageIndex stationUsageIndex;
 
-    public StationSectionService(StationRepository stationRepository,
+    public StationSectionService(LiveStationIds liveStationIds,
+                                 StationRepository stationRepository,
                                  StationLineRepository stationLineRepository,
-                                 StationSectionRepository stationSectionRepository) {
+                                 StationSectionRepository stationSectionRepository,
+                                 ResourceVersions resourceVersions,
+                                 OptimisticLockRetrier optimisticLockRetrier,
+                                 TransactionTemplate transactionTemplate,
+                                 LineWriteSequencer lineWriteSequencer,
+                                 StationUsageIndex stationUsageIndex) {
+        this.liveStationIds = liveStationIds;
         this.stationRepository = stationRepository;
         this.stationLineRepository = stationLineRepository;
         this.stationSectionRepository = stationSectionRepository;
+        this.resourceVersions = resourceVersions;
+        this.optimisticLockRetrier = optimisticLockRetrier;
+        this.transactionTemplate = transactionTemplate;
+        this.lineWriteSequencer = lineWriteSequencer;
+        this.stationUsageIndex = stationUsageIndex;
     }
 
-    @Transactional
+    /**
+     * 구간 추가, 같은 노선의 동시 수정과 충돌하면 새 트랜잭션에서 다시 검증 후 재시도
+     * <p>
+     * 재시도마다 트랜잭션을 새로 시작해야 하므로 진행 중인 트랜잭션에 참여하지 않는다.
+     * 노선별 순차 실행 모드가 활성화된 경우 같은 노선의 쓰기는 프로세스 안에서 차례로 실행된다.
+     *
+     * @param request 추가할 구간 정보
+     * @return 저장된 구간
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StationSectionResponse createStationSection(StationSectionRequest request) {
+        return lineWriteSequencer.execute(request.getStationLineId(), () -> optimisticLockRetrier.execute(
+                "section.create", () -> transactionTemplate.execute(status -> saveStationSection(request))));
+    }
+
+    private StationSectionResponse saveStationSection(StationSectionRequest request) {
         StationLine stationLine = findStationLineById(request.getStationLineId());
         StationSection stationSection = convertToStationSectionEntity(request);
 
@@ -35,26 +73,106 @@ public class StationSectionService {
         if (!stationLine.canSectionSave(stationSection)) {
             throw new IllegalArgumentException("요청한 구간을 저장할 수 없습니다.");
         }
-        return convertToResponse(saveStationSection(stationSection.setStationLine(stationLine)));
+        StationSection savedStationSection = persistStationSection(stationSection.setStationLine(stationLine));
+        stationLineRepository.save(stationLine);
+        stationUsageIndex.index(stationLine);
+        resourceVersions.increaseStationLinesVersion();
+        return convertToResponse(savedStationSection);
+    }
+
+    /**
+     * 하나의 노선에 이어지는 구간들을 순서대로 검증 후 한 번에 저장
+     * <p>
+     * 요청한 모든 역의 존재 여부는 한 번에 조회하며, 구간은 앞선 구간이 추가된 노선을 기준으로 순서대로 검증한다.
+     * 하나라도 저장할 수 없으면 모든 구간이 저장되지 않으며, 동시 수정과 충돌하면 전체를 재시도한다.
+     *
+     * @param stationLineId 지하철 노선 ID
+     * @param requests      순서대로 이어지는 구간 목록
+     * @return 저장된 구간 목록
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<StationSectionResponse> createStationSections(Long stationLineId,
+                                                              List<StationSectionRequest> requests) {
+        return lineWriteSequencer.execute(stationLineId, () -> optimisticLockRetrier.execute(
+                "section.create-batch",
+                () -> transactionTemplate.execute(status -> saveStationSections(stationLineId, requests))));
+    }
+
+    private List<StationSectionResponse> saveStationSections(Long stationLineId,
+                                                             List<StationSectionRequest> requests) {
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("저장할 구간이 존재하지 않습니다.");
+        }
+        StationLine stationLine = findStationLineById(stationLineId);
+        List<StationSection> stationSections = requests.stream()
+                .map(StationSectionService::convertToStationSectionEntity)
+                .collect(Collectors.toList());
+
+        if (!existStations(stationSections)) {
+            throw new IllegalArgumentException("요청한 역은 존재하지 않습니다.");
+        }
+        for (StationSection stationSection : stationSections) {
+            if (!stationLine.canSectionSave(stationSection)) {
+                throw new IllegalArgumentException("요청한 구간을 저장할 수 없습니다.");
+            }
+            stationSection.setStationLine(stationLine).updateDownStationOfLine();
+        }
+
+        List<StationSection> savedStationSections = stationSectionRepository.saveAll(stationSections);
+        stationLineRepository.save(stationLine);
+        stationUsageIndex.index(stationLine);
+        resourceVersions.increaseStationLinesVersion();
+        return savedStationSections.stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
     }
 
-    @Transactional
+    /**
+     * 구간 삭제, 같은 노선의 동시 수정과 충돌하면 새 트랜잭션에서 다시 검증 후 재시도
+     *
+     * @param stationLineId     지하철 노선 ID
+     * @param stationIdToDelete 삭제할 하행 종점역 ID
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteStationSection(Long stationLineId, Long stationIdToDelete) {
+        lineWriteSequencer.run(stationLineId, () -> optimisticLockRetrier.run(
+                "section.delete", () -> transactionTemplate.executeWithoutResult(
+                        status -> removeStationSection(stationLineId, stationIdToDelete))));
+    }
+
+    private void removeStationSection(Long stationLineId, Long stationIdToDelete) {
         StationLine stationLine = findStationLineById(stationLineId);
 
         if (!stationLine.canSectionDelete(stationIdToDelete)) {
             throw new IllegalArgumentException("요청한 구간(혹은 역)을 삭제할 수 없습니다.");
         }
         stationLine.deleteSectionSection(stationIdToDelete);
+        stationLineRepository.save(stationLine);
+        stationUsageIndex.index(stationLine);
+        resourceVersions.increaseStationLinesVersion();
     }
 
     private boolean existStation(StationSection stationSection) {
-        boolean upStationExists = stationRepository.findById(stationSection.getUpStationId()).isPresent();
-        boolean downStationExists = stationRepository.findById(stationSection.getDownStationId()).isPresent();
-        return upStationExists && downStationExists;
+        return existStations(List.of(stationSection));
+    }
+
+    /**
+     * 구간에 포함된 모든 역의 존재 여부 확인
+     * <p>
+     * 존재하지 않는 것이 확실한 역은 DB 조회 없이 거르고, 나머지는 공유 락을 건 한 번의 쿼리로 확인한다.
+     * 락은 커밋까지 유지되므로 확인 이후 구간이 저장되기 전에 역이 삭제되지 않는다.
+     */
+    private boolean existStations(List<StationSection> stationSections) {
+        Set<Long> stationIds = stationSections.stream()
+                .flatMap(stationSection -> Stream.of(stationSection.getUpStationId(), stationSection.getDownStationId()))
+                .collect(Collectors.toSet());
+        if (!liveStationIds.mightContainAll(stationIds)) {
+            return false;
+        }
+        return stationRepository.findAllForShareByIdIn(stationIds).size() == stationIds.size();
     }
 
-    private StationSection saveStationSection(StationSection stationSection) {
+    private StationSection persistStationSection(StationSection stationSection) {
         stationSection.updateDownStationOfLine();
         return stationSectionRepository.save(stationSection);
     }
@@ -1,39 +1,220 @@
 package subway.application;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import subway.dto.StationPageResponse;
 import subway.dto.StationRequest;
 import subway.dto.StationResponse;
+import subway.dto.StationUsageResponse;
 import subway.entity.Station;
 import subway.entity.StationRepository;
+import subway.entity.StationSectionRepository;
+import subway.entity.StationsCreatedEvent;
+import subway.entity.StationsDeletedEvent;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
 public class StationService {
+
+    public static final int MIN_PAGE_SIZE = 1;
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    public static final int MAX_BULK_SIZE = 10000;
+
+    public static final int BULK_FLUSH_SIZE = 1000;
+
     private final StationRepository stationRepository;
 
-    public StationService(StationRepository stationRepository) {
+    private final StationSectionRepository stationSectionRepository;
+
+    private final StationCache stationCache;
+
+    private final ResourceVersions resourceVersions;
+
+    private final EntityManager entityManager;
+
+    private final LiveStationIds liveStationIds;
+
+    private final StationUsageIndex stationUsageIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StationService(StationRepository stationRepository,
+                          StationSectionRepository stationSectionRepository,
+                          StationCache stationCache,
+                          ResourceVersions resourceVersions,
+                          EntityManager entityManager,
+                          LiveStationIds liveStationIds,
+                          StationUsageIndex stationUsageIndex,
+                          ApplicationEventPublisher eventPublisher) {
         this.stationRepository = stationRepository;
+        this.stationSectionRepository = stationSectionRepository;
+        this.stationCache = stationCache;
+        this.resourceVersions = resourceVersions;
+        this.entityManager = entityManager;
+        this.liveStationIds = liveStationIds;
+        this.stationUsageIndex = stationUsageIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public StationResponse createStation(StationRequest stationRequest) {
         Station station = stationRepository.save(new Station(stationRequest.getName()));
+        stationCache.evict(station.getId());
+        liveStationIds.add(station.getId());
+        eventPublisher.publishEvent(new StationsCreatedEvent(List.of(station.getId())));
+        resourceVersions.increaseStationsVersion();
         return createStationResponse(station);
     }
 
+    /**
+     * 주어진 지하철역들을 일괄 생성
+     * <p>
+     * ID는 시퀀스에서 미리 할당받은 값을 사용하므로 INSERT만 JDBC 배치로 묶여 실행되며,
+     * 일정 개수마다 flush/clear 하여 영속성 컨텍스트 크기를 일정하게 유지한다.
+     *
+     * @param stationRequests 생성할 지하철역 목록
+     * @return 요청과 같은 순서로 생성된 지하철역 목록
+     */
+    @Transactional
+    public List<StationResponse> createStations(List<StationRequest> stationRequests) {
+        validateBulkSize(stationRequests);
+        List<Station> stations = stationRequests.stream()
+                .map(StationRequest::getName)
+                .map(Station::new)
+                .collect(Collectors.toList());
+        if (stations.stream().anyMatch(station -> station.getName() == null)) {
+            throw new IllegalArgumentException("지하철역 이름은 필수입니다.");
+        }
+
+        for (int from = 0; from < stations.size(); from += BULK_FLUSH_SIZE) {
+            stationRepository.saveAll(stations.subList(from, Math.min(from + BULK_FLUSH_SIZE, stations.size())));
+            stationRepository.flush();
+            entityManager.clear();
+        }
+
+        List<Long> ids = stations.stream()
+                .map(Station::getId)
+                .collect(Collectors.toList());
+        stationCache.evictAll(ids);
+        liveStationIds.addAll(ids);
+        eventPublisher.publishEvent(new StationsCreatedEvent(ids));
+        resourceVersions.increaseStationsVersion();
+        return stations.stream()
+                .map(this::createStationResponse)
+                .collect(Collectors.toList());
+    }
+
     public List<StationResponse> findAllStations() {
         return stationRepository.findAll().stream()
                 .map(this::createStationResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 주어진 커서(지하철역 ID) 이후의 지하철역을 ID 순서로 조회
+     *
+     * @param cursor 이전 페이지의 마지막 지하철역 ID(첫 페이지일 경우 null)
+     * @param size   조회할 지하철역 수
+     * @return 지하철역 목록과 다음 페이지 커서(마지막 페이지일 경우 null)
+     */
+    public StationPageResponse findStations(Long cursor, int size) {
+        if (size < MIN_PAGE_SIZE || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("페이지 크기는 %d 이상 %d 이하여야 합니다.", MIN_PAGE_SIZE, MAX_PAGE_SIZE));
+        }
+        List<Station> stations = stationRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor == null ? 0L : cursor, PageRequest.of(0, size + 1));
+
+        boolean hasNext = stations.size() > size;
+        List<StationResponse> stationResponses = stations.stream()
+                .limit(size)
+                .map(this::createStationResponse)
+                .collect(Collectors.toList());
+
+        Long nextCursor = hasNext ? stationResponses.get(size - 1).getId() : null;
+        return new StationPageResponse(stationResponses, nextCursor);
+    }
+
+    /**
+     * 모든 지하철역을 ID 순서로 하나씩 읽는 즉시 전달, 전달한 엔티티는 영속성 컨텍스트에서 분리
+     *
+     * @param consumer 지하철역 정보를 전달받을 consumer
+     */
+    public void streamAllStations(Consumer<StationResponse> consumer) {
+        try (Stream<Station> stations = stationRepository.streamAllOrderById()) {
+            stations.forEach(station -> {
+                consumer.accept(createStationResponse(station));
+                entityManager.detach(station);
+            });
+        }
+    }
+
+    /**
+     * 주어진 지하철역을 포함하는 노선과 구간 조회
+     *
+     * @param id 지하철역 ID
+     * @return 노선 ID 순서로 정렬된 노선별 구간 ID 목록
+     */
+    public List<StationUsageResponse> findStationUsages(Long id) {
+        stationCache.find(id).orElseThrow(EntityNotFoundException::new);
+        return stationUsageIndex.findUsages(id).entrySet().stream()
+                .map(usage -> new StationUsageResponse(usage.getKey(),
+                        usage.getValue().stream().sorted().collect(Collectors.toList())))
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public void deleteStationById(Long id) {
+        validateNotInUse(List.of(id));
         stationRepository.deleteById(id);
+        stationCache.evict(id);
+        eventPublisher.publishEvent(new StationsDeletedEvent(List.of(id)));
+        resourceVersions.increaseStationsVersion();
+    }
+
+    /**
+     * 주어진 지하철역들을 한 번의 쿼리로 일괄 삭제
+     *
+     * @param ids 삭제할 지하철역 ID 목록
+     */
+    @Transactional
+    public void deleteStationsByIds(List<Long> ids) {
+        validateBulkSize(ids);
+        validateNotInUse(ids);
+        stationRepository.deleteAllByIdInBatch(ids);
+        stationCache.evictAll(ids);
+        eventPublisher.publishEvent(new StationsDeletedEvent(ids));
+        resourceVersions.increaseStationsVersion();
+    }
+
+    /**
+     * 삭제할 역에 배타 락을 건 뒤 DB에서 구간 포함 여부 확인
+     * <p>
+     * 구간 저장은 역에 공유 락을 걸고 존재 여부를 확인하므로, 확인과 삭제 사이에 다른 요청(다른 인스턴스 포함)이 구간을 추가할 수 없다.
+     */
+    private void validateNotInUse(List<Long> ids) {
+        stationRepository.findAllForUpdateByIdIn(ids);
+        if (stationSectionRepository.existsByUpStationIdInOrDownStationIdIn(ids, ids)) {
+            throw new IllegalArgumentException("노선에 포함된 역은 삭제할 수 없습니다.");
+        }
+    }
+
+    private void validateBulkSize(List<?> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("일괄 처리할 지하철역은 1개 이상 %d개 이하여야 합니다.", MAX_BULK_SIZE));
+        }
     }
 
     private StationResponse createStationResponse(Station station) {
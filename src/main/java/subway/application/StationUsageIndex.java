@@ -0,0 +1,239 @@
+package subway.application;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.entity.StationLine;
+import subway.entity.StationSection;
+import subway.entity.StationSectionRepository;
+import subway.entity.StationSectionView;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 지하철역 ID → 그 역을 포함하는 노선 ID와 구간 ID 역색인
+ * <p>
+ * 노선 단위로 구간이 바뀔 때마다 커밋 이후 그 노선의 색인을 교체하며, 처음 사용하거나 애플리케이션이 시작되면 전체 구간으로 생성한다.
+ * 커밋 이후 교체 작업은 순서가 바뀌어 실행될 수 있으므로, 노선 버전({@code @Version})이 이미 반영된 버전보다 높을 때만 교체한다.
+ * 프로세스별로 커밋 이후에 갱신되므로 조회 전용이며, 역 삭제 가능 여부는 삭제 트랜잭션 안에서 DB로 확인한다.
+ */
+@Component
+public class StationUsageIndex {
+
+    private static final long DELETED_VERSION = Long.MAX_VALUE;
+
+    private final StationSectionRepository stationSectionRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 지하철역 ID → (노선 ID → 구간 ID 목록)
+     */
+    private final Map<Long, Map<Long, Set<Long>>> usagesByStationId = new HashMap<>();
+
+    /**
+     * 노선 ID → 색인된 구간 목록, 노선의 색인을 교체할 때 이전 항목을 제거하기 위해 사용
+     */
+    private final Map<Long, List<SectionEntry>> sectionsByStationLineId = new HashMap<>();
+
+    /**
+     * 노선 ID → 색인에 반영된 노선 버전, 삭제된 노선은 {@link #DELETED_VERSION}으로 남겨 늦게 도착한 교체를 무시
+     */
+    private final Map<Long, Long> versionsByStationLineId = new HashMap<>();
+
+    private volatile boolean loaded;
+
+    public StationUsageIndex(StationSectionRepository stationSectionRepository,
+                             TransactionTemplate transactionTemplate) {
+        this.stationSectionRepository = stationSectionRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        ensureLoaded();
+    }
+
+    /**
+     * 주어진 지하철역을 포함하는 노선과 구간 조회
+     *
+     * @param stationId 지하철역 ID
+     * @return 노선 ID를 키(오름차순)로 하는 구간 ID 목록
+     */
+    public Map<Long, Set<Long>> findUsages(Long stationId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Map<Long, Set<Long>> usages = usagesByStationId.getOrDefault(stationId, Map.of());
+            return usages.entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> Set.copyOf(entry.getValue()),
+                            (left, right) -> left, TreeMap::new));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 노선의 현재 구간으로 색인 교체, 트랜잭션 진행 중일 경우 커밋 이후 교체
+     * <p>
+     * 노선 버전은 flush 시점에 증가하므로 커밋 이후에 읽으며, 이미 더 높은 버전이 반영되었으면 무시한다.
+     *
+     * @param stationLine 지하철 노선 엔티티(구간 ID가 할당된 상태)
+     */
+    public void index(StationLine stationLine) {
+        Long stationLineId = stationLine.getId();
+        List<SectionEntry> sections = stationLine.getSections().getSections().stream()
+                .map(SectionEntry::new)
+                .collect(Collectors.toList());
+        TransactionCallbacks.afterCommit(() -> write(() -> {
+            if (advanceVersion(stationLineId, stationLine.getVersion())) {
+                replace(stationLineId, sections);
+            }
+        }));
+    }
+
+    /**
+     * 노선의 색인 제거, 트랜잭션 진행 중일 경우 커밋 이후 제거
+     *
+     * @param stationLineId 지하철 노선 ID
+     */
+    public void remove(Long stationLineId) {
+        TransactionCallbacks.afterCommit(() -> write(() -> {
+            versionsByStationLineId.put(stationLineId, DELETED_VERSION);
+            replace(stationLineId, List.of());
+        }));
+    }
+
+    /**
+     * 전체 구간으로 색인을 다시 생성, 트랜잭션 진행 중일 경우 커밋 이후 생성
+     */
+    public void reload() {
+        TransactionCallbacks.afterCommit(() -> write(this::loadAll));
+    }
+
+    public void clear() {
+        write(() -> {
+            usagesByStationId.clear();
+            sectionsByStationLineId.clear();
+            versionsByStationLineId.clear();
+            loaded = true;
+        });
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        write(() -> {
+            if (!loaded) {
+                loadAll();
+            }
+        });
+    }
+
+    /**
+     * 프라이머리에서 전체 구간을 읽어 색인 생성, 조회하는 동안 쓰기 락을 유지해 그 사이 커밋된 변경이 덮어써지지 않게 함
+     */
+    private void loadAll() {
+        List<StationSectionView> views = transactionTemplate.execute(status -> stationSectionRepository.findAllViews());
+        Map<Long, List<SectionEntry>> sectionsByLine = views.stream()
+                .collect(Collectors.groupingBy(StationSectionView::getStationLineId,
+                        Collectors.mapping(SectionEntry::new, Collectors.toList())));
+
+        usagesByStationId.clear();
+        sectionsByStationLineId.clear();
+        views.forEach(view -> advanceVersion(view.getStationLineId(), view.getStationLineVersion()));
+        sectionsByLine.forEach(this::replace);
+        loaded = true;
+    }
+
+    /**
+     * 주어진 버전이 반영된 버전보다 높으면 기록하고 true 반환
+     */
+    private boolean advanceVersion(Long stationLineId, Long version) {
+        long newVersion = version == null ? 0 : version;
+        Long currentVersion = versionsByStationLineId.get(stationLineId);
+        if (currentVersion != null && currentVersion >= newVersion) {
+            return false;
+        }
+        versionsByStationLineId.put(stationLineId, newVersion);
+        return true;
+    }
+
+    private void replace(Long stationLineId, List<SectionEntry> sections) {
+        List<SectionEntry> previousSections = sectionsByStationLineId.remove(stationLineId);
+        if (previousSections != null) {
+            previousSections.forEach(section -> {
+                unlink(section.upStationId, stationLineId);
+                unlink(section.downStationId, stationLineId);
+            });
+        }
+        if (sections.isEmpty()) {
+            return;
+        }
+        sectionsByStationLineId.put(stationLineId, new ArrayList<>(sections));
+        sections.forEach(section -> {
+            link(section.upStationId, stationLineId, section.id);
+            link(section.downStationId, stationLineId, section.id);
+        });
+    }
+
+    private void link(Long stationId, Long stationLineId, Long sectionId) {
+        usagesByStationId.computeIfAbsent(stationId, id -> new HashMap<>())
+                .computeIfAbsent(stationLineId, id -> new LinkedHashSet<>())
+                .add(sectionId);
+    }
+
+    private void unlink(Long stationId, Long stationLineId) {
+        Map<Long, Set<Long>> usages = usagesByStationId.get(stationId);
+        if (usages == null) {
+            return;
+        }
+        usages.remove(stationLineId);
+        if (usages.isEmpty()) {
+            usagesByStationId.remove(stationId);
+        }
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static final class SectionEntry {
+
+        private final Long id;
+
+        private final Long upStationId;
+
+        private final Long downStationId;
+
+        private SectionEntry(StationSection section) {
+            this.id = section.getId();
+            this.upStationId = section.getUpStationId();
+            this.downStationId = section.getDownStationId();
+        }
+
+        private SectionEntry(StationSectionView view) {
+            this.id = view.getId();
+            this.upStationId = view.getUpStationId();
+            this.downStationId = view.getDownStationId();
+        }
+    }
+}
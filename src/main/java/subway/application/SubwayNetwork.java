@@ -0,0 +1,243 @@
+package subway.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.config.ProjectionExecutorConfig;
+import subway.entity.Station;
+import subway.entity.StationLineDeletedEvent;
+import subway.entity.StationSectionAddedEvent;
+import subway.entity.StationSectionRemovedEvent;
+import subway.entity.StationSectionRepository;
+import subway.entity.StationSectionView;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 전체 지하철 노선도의 최단 경로 탐색용 그래프 보관
+ * <p>
+ * 요청을 받기 전 전체 구간으로 한 번 생성하며, 이후에는 구간 추가/삭제 이벤트의 간선만 반영한 새 그래프로 교체한다(DB 조회 없음).
+ * 이벤트는 조회 모델 실행기에서 커밋 순서와 다르게 처리될 수 있으므로, 노선별 간선 수를 더하고 빼서
+ * 0 → 1이 될 때만 간선을 추가하고 1 → 0이 될 때만 삭제한다. 삭제된 노선의 늦게 도착한 이벤트는 무시한다.
+ * 전체 구간으로 다시 생성할 때는 노선 버전({@code @Version})을 함께 기록하고, 그 버전 이하의 이벤트는 이미 반영된 것으로 보고 무시한다.
+ * 이벤트를 반영하지 못하면(새 역의 이름을 찾지 못한 경우 등) 로그를 남기고 전체 구간으로 다시 생성한다.
+ */
+@Component
+public class SubwayNetwork implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(SubwayNetwork.class);
+
+    private final StationSectionRepository stationSectionRepository;
+
+    private final StationCache stationCache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Object lock = new Object();
+
+    /**
+     * 노선 ID → (간선 → 추가된 횟수 - 삭제된 횟수)
+     */
+    private final Map<Long, Map<NetworkEdge, Integer>> edgeCountsByStationLineId = new HashMap<>();
+
+    private final Set<Long> deletedStationLineIds = new HashSet<>();
+
+    /**
+     * 노선 ID → 전체 구간으로 그래프를 생성할 때 읽은 노선 버전
+     */
+    private final Map<Long, Long> loadedVersionsByStationLineId = new HashMap<>();
+
+    private volatile NetworkGraph graph = NetworkGraph.empty();
+
+    public SubwayNetwork(StationSectionRepository stationSectionRepository,
+                         StationCache stationCache,
+                         TransactionTemplate transactionTemplate) {
+        this.stationSectionRepository = stationSectionRepository;
+        this.stationCache = stationCache;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 웹 서버가 요청을 받기 전(모든 싱글톤 생성 직후) 전체 구간으로 그래프 생성
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        loadAll();
+    }
+
+    /**
+     * 전체 구간으로 그래프를 다시 생성, 트랜잭션 진행 중일 경우 커밋 이후 생성(구간 이벤트 없이 저장하는 가져오기 등)
+     */
+    public void reload() {
+        TransactionCallbacks.afterCommit(this::loadAll);
+    }
+
+    @Async(ProjectionExecutorConfig.PROJECTION_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StationSectionAddedEvent event) {
+        apply(event.getStationLineId(), event.getStationLineVersion(),
+                new NetworkEdge(event.getUpStationId(), event.getDownStationId(), event.getDistance()), 1);
+    }
+
+    @Async(ProjectionExecutorConfig.PROJECTION_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StationSectionRemovedEvent event) {
+        apply(event.getStationLineId(), event.getStationLineVersion(),
+                new NetworkEdge(event.getUpStationId(), event.getDownStationId(), event.getDistance()), -1);
+    }
+
+    @Async(ProjectionExecutorConfig.PROJECTION_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StationLineDeletedEvent event) {
+        synchronized (lock) {
+            deletedStationLineIds.add(event.getStationLineId());
+            Map<NetworkEdge, Integer> edgeCounts = edgeCountsByStationLineId.remove(event.getStationLineId());
+            if (edgeCounts == null) {
+                return;
+            }
+            List<NetworkEdge> removedEdges = edgeCounts.entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            graph = graph.withChanges(List.of(), removedEdges, Map.of());
+        }
+    }
+
+    /**
+     * 현재 그래프 반환, 반환된 그래프는 이후 변경의 영향을 받지 않음
+     */
+    public NetworkGraph getGraph() {
+        return graph;
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            edgeCountsByStationLineId.clear();
+            deletedStationLineIds.clear();
+            loadedVersionsByStationLineId.clear();
+            graph = NetworkGraph.empty().withVersion(graph.getVersion() + 1);
+        }
+    }
+
+    /**
+     * 간선 수를 더하거나 빼고, 그래프에 간선이 생기거나 없어질 때만 새 그래프로 교체
+     * <p>
+     * 역 이름은 락 안에서 현재 그래프 기준으로 조회하며, 새 그래프 생성에 실패하면 간선 수도 바꾸지 않는다.
+     *
+     * @param stationLineVersion 이벤트를 발행한 커밋의 노선 버전, 전체 구간으로 생성할 때 읽은 버전 이하면 무시
+     */
+    private void apply(Long stationLineId, Long stationLineVersion, NetworkEdge edge, int delta) {
+        try {
+            synchronized (lock) {
+                if (deletedStationLineIds.contains(stationLineId) || isLoaded(stationLineId, stationLineVersion)) {
+                    return;
+                }
+                Map<NetworkEdge, Integer> edgeCounts =
+                        edgeCountsByStationLineId.getOrDefault(stationLineId, Map.of());
+                int previousCount = edgeCounts.getOrDefault(edge, 0);
+                int count = previousCount + delta;
+
+                NetworkGraph newGraph = graph;
+                if (previousCount <= 0 && count > 0) {
+                    newGraph = graph.withChanges(
+                            List.of(edge), List.of(), findStationNames(graph, List.of(edge)));
+                } else if (previousCount > 0 && count <= 0) {
+                    newGraph = graph.withChanges(List.of(), List.of(edge), Map.of());
+                }
+
+                updateEdgeCount(stationLineId, edge, count);
+                graph = newGraph;
+            }
+        } catch (RuntimeException e) {
+            log.warn("노선도에 구간 변경을 반영하지 못해 전체 구간으로 다시 생성합니다. "
+                            + "stationLineId={}, upStationId={}, downStationId={}",
+                    stationLineId, edge.getUpStationId(), edge.getDownStationId(), e);
+            recover();
+        }
+    }
+
+    /**
+     * 이벤트 처리 실행기 스레드에서 전체 구간으로 그래프를 다시 생성, 실패하면 다음 재생성(가져오기, 재시작)까지 이전 그래프 유지
+     */
+    private void recover() {
+        try {
+            loadAll();
+        } catch (RuntimeException e) {
+            log.error("노선도를 전체 구간으로 다시 생성하지 못했습니다.", e);
+        }
+    }
+
+    private void updateEdgeCount(Long stationLineId, NetworkEdge edge, int count) {
+        if (count == 0) {
+            Map<NetworkEdge, Integer> edgeCounts = edgeCountsByStationLineId.get(stationLineId);
+            if (edgeCounts != null) {
+                edgeCounts.remove(edge);
+            }
+            return;
+        }
+        edgeCountsByStationLineId.computeIfAbsent(stationLineId, id -> new HashMap<>()).put(edge, count);
+    }
+
+    /**
+     * 프라이머리에서 전체 구간을 읽어 그래프 생성, 조회하는 동안 락을 유지해 그 사이 도착한 이벤트가 이전 그래프에 반영되지 않게 함
+     */
+    private void loadAll() {
+        synchronized (lock) {
+            List<StationSectionView> sections = transactionTemplate.execute(
+                    status -> stationSectionRepository.findAllViews());
+
+            edgeCountsByStationLineId.clear();
+            loadedVersionsByStationLineId.clear();
+            List<NetworkEdge> edges = new ArrayList<>(sections.size());
+            for (StationSectionView section : sections) {
+                NetworkEdge edge = new NetworkEdge(
+                        section.getUpStationId(), section.getDownStationId(), section.getDistance());
+                edgeCountsByStationLineId.computeIfAbsent(section.getStationLineId(), id -> new HashMap<>())
+                        .merge(edge, 1, Integer::sum);
+                loadedVersionsByStationLineId.put(
+                        section.getStationLineId(), versionOf(section.getStationLineVersion()));
+                edges.add(edge);
+            }
+            NetworkGraph emptyGraph = NetworkGraph.empty().withVersion(graph.getVersion());
+            graph = emptyGraph.withChanges(edges, List.of(), findStationNames(emptyGraph, edges));
+        }
+    }
+
+    /**
+     * 전체 구간으로 그래프를 생성할 때 이미 반영된 버전인지 여부
+     */
+    private boolean isLoaded(Long stationLineId, Long stationLineVersion) {
+        Long loadedVersion = loadedVersionsByStationLineId.get(stationLineId);
+        return loadedVersion != null && versionOf(stationLineVersion) <= loadedVersion;
+    }
+
+    private static long versionOf(Long stationLineVersion) {
+        return stationLineVersion == null ? 0 : stationLineVersion;
+    }
+
+    /**
+     * 주어진 그래프에 아직 없는 역의 이름 조회
+     */
+    private Map<Long, String> findStationNames(NetworkGraph base, List<NetworkEdge> edges) {
+        Set<Long> stationIds = edges.stream()
+                .flatMap(edge -> Stream.of(edge.getUpStationId(), edge.getDownStationId()))
+                .filter(stationId -> !base.contains(stationId))
+                .collect(Collectors.toSet());
+        if (stationIds.isEmpty()) {
+            return Map.of();
+        }
+        return stationCache.findAll(stationIds).values().stream()
+                .collect(Collectors.toMap(Station::getId, Station::getName));
+    }
+}
@@ -1,5 +1,8 @@
 package subway.config;
 
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -15,6 +18,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(new ExceptionResponse(e.getMessage()));
     }
 
+    @ExceptionHandler(RuntimeJsonMappingException.class)
+    public ResponseEntity<ExceptionResponse> runtimeJsonMappingException(RuntimeJsonMappingException e) {
+        return ResponseEntity.badRequest().body(new ExceptionResponse(e.getMessage()));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ExceptionResponse> optimisticLockingFailureException(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ExceptionResponse("다른 요청과 충돌하였습니다. 잠시 후 다시 시도해주세요."));
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ExceptionResponse> entityNotFoundException(EntityNotFoundException e) {
         return ResponseEntity.badRequest().body(new ExceptionResponse(e.getMessage()));
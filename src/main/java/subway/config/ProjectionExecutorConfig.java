@@ -0,0 +1,59 @@
+package subway.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 모델(스냅샷, 캐시, 필터)을 비동기로 갱신하는 전용 실행기 설정
+ * <p>
+ * 대기 중인 작업 수는 {@code subway.projection.backlog}, 커밋 이후 갱신이 끝나기까지 걸린 시간은
+ * {@code subway.projection.lag} 메트릭으로 노출된다. 대기열이 가득 찬 경우 커밋한 스레드에서 직접 갱신한다.
+ */
+@EnableAsync
+@Configuration
+public class ProjectionExecutorConfig {
+
+    public static final String PROJECTION_EXECUTOR = "projectionExecutor";
+
+    public static final String BACKLOG_METRIC = "subway.projection.backlog";
+
+    public static final String LAG_METRIC = "subway.projection.lag";
+
+    @Bean(PROJECTION_EXECUTOR)
+    public ThreadPoolTaskExecutor projectionExecutor(MeterRegistry meterRegistry,
+                                                     @Value("${subway.projection.threads}") int threads,
+                                                     @Value("${subway.projection.queue-capacity}") int queueCapacity) {
+        Timer lag = Timer.builder(LAG_METRIC).register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("projection-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                try {
+                    task.run();
+                } finally {
+                    lag.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+
+        Gauge.builder(BACKLOG_METRIC, executor, it -> it.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+        return executor;
+    }
+}
@@ -0,0 +1,100 @@
+package subway.config;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 쓰기 직후 같은 세션의 읽기를 프라이머리로 고정(read-your-writes)
+ * <p>
+ * 쓰기 트랜잭션이 발생하면 응답에 마지막 쓰기 시각을 쿠키로 남기고,
+ * 이후 요청에서 쿠키의 시각이 허용된 레플리카 지연 시간 이내라면 해당 요청의 읽기를 프라이머리로 라우팅한다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String LAST_WRITE_COOKIE_NAME = "SUBWAY_LAST_WRITE";
+
+    private static final ThreadLocal<Session> CURRENT_SESSION = new ThreadLocal<>();
+
+    private final Duration stickiness;
+
+    public ReadYourWritesFilter(Duration stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CURRENT_SESSION.set(new Session(response, stickiness, hasRecentWrite(request)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            CURRENT_SESSION.remove();
+        }
+    }
+
+    static boolean isPrimaryPinned() {
+        Session session = CURRENT_SESSION.get();
+        return session != null && session.primaryPinned;
+    }
+
+    /**
+     * 현재 요청에서 쓰기가 발생했음을 기록하고, 응답에 마지막 쓰기 시각 쿠키 추가(요청 처리 중이 아닐 경우 무시)
+     */
+    static void markWritten() {
+        Session session = CURRENT_SESSION.get();
+        if (session == null || session.written) {
+            return;
+        }
+        session.primaryPinned = true;
+        session.written = true;
+        if (!session.response.isCommitted()) {
+            session.response.addCookie(createLastWriteCookie(session.stickiness));
+        }
+    }
+
+    private boolean hasRecentWrite(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, LAST_WRITE_COOKIE_NAME);
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            long lastWrittenAt = Long.parseLong(cookie.getValue());
+            return System.currentTimeMillis() - lastWrittenAt < stickiness.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static Cookie createLastWriteCookie(Duration stickiness) {
+        Cookie cookie = new Cookie(LAST_WRITE_COOKIE_NAME, String.valueOf(System.currentTimeMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, stickiness.toSeconds()));
+        return cookie;
+    }
+
+    private static class Session {
+
+        private final HttpServletResponse response;
+
+        private final Duration stickiness;
+
+        private boolean primaryPinned;
+
+        private boolean written;
+
+        private Session(HttpServletResponse response, Duration stickiness, boolean primaryPinned) {
+            this.response = response;
+            this.stickiness = stickiness;
+            this.primaryPinned = primaryPinned;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package subway.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 그 외의 요청은 프라이머리로 라우팅하는 DataSource
+ * <p>
+ * 트랜잭션의 읽기 전용 여부가 정해진 이후에 커넥션을 얻도록 {@code LazyConnectionDataSourceProxy}로 감싸서 사용해야 한다.
+ * 같은 세션에서 쓰기가 일어난 직후에는 레플리카 지연을 고려해 읽기도 프라이머리로 보낸다.
+ * 메모리에 보관할 조회 모델처럼 레플리카 지연이 허용되지 않는 읽기는 {@link #readFromPrimary}로 프라이머리에 고정할 수 있다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    public static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> PRIMARY_READ = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * 주어진 작업에서 새로 얻는 커넥션을 읽기 전용이더라도 프라이머리로 라우팅(쓰기로 기록하지 않음)
+     * <p>
+     * 이미 커넥션을 얻은 트랜잭션에는 영향이 없으므로, 작업 안에서 새 트랜잭션을 시작해야 한다.
+     *
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        boolean previous = PRIMARY_READ.get();
+        PRIMARY_READ.set(true);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_READ.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesFilter.markWritten();
+            }
+            return PRIMARY;
+        }
+        if (PRIMARY_READ.get() || ReadYourWritesFilter.isPrimaryPinned()) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+}
@@ -0,0 +1,35 @@
+package subway.dto;
+
+public class ImportStageResponse {
+
+    private final String name;
+
+    private final long count;
+
+    private final long elapsedMillis;
+
+    private final double throughputPerSecond;
+
+    public ImportStageResponse(String name, long count, long elapsedMillis, double throughputPerSecond) {
+        this.name = name;
+        this.count = count;
+        this.elapsedMillis = elapsedMillis;
+        this.throughputPerSecond = throughputPerSecond;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+}
@@ -0,0 +1,20 @@
+package subway.dto;
+
+import java.util.List;
+
+public class NetworkComponentResponse {
+
+    private final List<Long> stationIds;
+
+    public NetworkComponentResponse(List<Long> stationIds) {
+        this.stationIds = stationIds;
+    }
+
+    public int getSize() {
+        return stationIds.size();
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+}
@@ -0,0 +1,37 @@
+package subway.dto;
+
+import java.util.List;
+
+public class NetworkImportResponse {
+
+    private final int stations;
+
+    private final int lines;
+
+    private final int sections;
+
+    private final List<ImportStageResponse> stages;
+
+    public NetworkImportResponse(int stations, int lines, int sections, List<ImportStageResponse> stages) {
+        this.stations = stations;
+        this.lines = lines;
+        this.sections = sections;
+        this.stages = stages;
+    }
+
+    public int getStations() {
+        return stations;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getSections() {
+        return sections;
+    }
+
+    public List<ImportStageResponse> getStages() {
+        return stages;
+    }
+}
@@ -0,0 +1,78 @@
+package subway.dto;
+
+/**
+ * 지하철 노선도 가져오기 파일(NDJSON)의 한 행
+ * <p>
+ * 역, 노선, 구간 순서로 기록되어야 하며, 노선과 구간은 앞서 기록된 역/노선을 파일 안의 key로 참조한다.
+ */
+public class NetworkImportRow {
+
+    public static final String STATION = "station";
+
+    public static final String LINE = "line";
+
+    public static final String SECTION = "section";
+
+    private String type;
+
+    private String key;
+
+    private String name;
+
+    private String color;
+
+    private String line;
+
+    private String upStation;
+
+    private String downStation;
+
+    private int distance;
+
+    public NetworkImportRow() {
+    }
+
+    public NetworkImportRow(String type, String key, String name, String color,
+                            String line, String upStation, String downStation, int distance) {
+        this.type = type;
+        this.key = key;
+        this.name = name;
+        this.color = color;
+        this.line = line;
+        this.upStation = upStation;
+        this.downStation = downStation;
+        this.distance = distance;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public String getUpStation() {
+        return upStation;
+    }
+
+    public String getDownStation() {
+        return downStation;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
@@ -0,0 +1,23 @@
+package subway.dto;
+
+import java.util.List;
+
+public class PathResponse {
+
+    private final List<StationResponse> stations;
+
+    private final long distance;
+
+    public PathResponse(List<StationResponse> stations, long distance) {
+        this.stations = stations;
+        this.distance = distance;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public long getDistance() {
+        return distance;
+    }
+}
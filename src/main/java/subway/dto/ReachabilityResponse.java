@@ -0,0 +1,28 @@
+package subway.dto;
+
+public class ReachabilityResponse {
+
+    private final Long source;
+
+    private final Long target;
+
+    private final boolean reachable;
+
+    public ReachabilityResponse(Long source, Long target, boolean reachable) {
+        this.source = source;
+        this.target = target;
+        this.reachable = reachable;
+    }
+
+    public Long getSource() {
+        return source;
+    }
+
+    public Long getTarget() {
+        return target;
+    }
+
+    public boolean isReachable() {
+        return reachable;
+    }
+}
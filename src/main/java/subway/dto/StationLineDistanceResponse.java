@@ -0,0 +1,35 @@
+package subway.dto;
+
+public class StationLineDistanceResponse {
+
+    private final Long stationLineId;
+
+    private final Long fromStationId;
+
+    private final Long toStationId;
+
+    private final int distance;
+
+    public StationLineDistanceResponse(Long stationLineId, Long fromStationId, Long toStationId, int distance) {
+        this.stationLineId = stationLineId;
+        this.fromStationId = fromStationId;
+        this.toStationId = toStationId;
+        this.distance = distance;
+    }
+
+    public Long getStationLineId() {
+        return stationLineId;
+    }
+
+    public Long getFromStationId() {
+        return fromStationId;
+    }
+
+    public Long getToStationId() {
+        return toStationId;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
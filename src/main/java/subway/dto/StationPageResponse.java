@@ -0,0 +1,23 @@
+package subway.dto;
+
+import java.util.List;
+
+public class StationPageResponse {
+
+    private final List<StationResponse> stations;
+
+    private final Long nextCursor;
+
+    public StationPageResponse(List<StationResponse> stations, Long nextCursor) {
+        this.stations = stations;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,23 @@
+package subway.dto;
+
+import java.util.List;
+
+public class StationUsageResponse {
+
+    private final Long stationLineId;
+
+    private final List<Long> sectionIds;
+
+    public StationUsageResponse(Long stationLineId, List<Long> sectionIds) {
+        this.stationLineId = stationLineId;
+        this.sectionIds = sectionIds;
+    }
+
+    public Long getStationLineId() {
+        return stationLineId;
+    }
+
+    public List<Long> getSectionIds() {
+        return sectionIds;
+    }
+}
@@ -4,11 +4,17 @@ import javax.persistence.*;
 
 @Entity
 public class Station {
+
+    public static final String ID_SEQUENCE_NAME = "station_seq";
+
+    public static final int NAME_MAX_LENGTH = 20;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "station_id_generator")
+    @SequenceGenerator(name = "station_id_generator", sequenceName = Station.ID_SEQUENCE_NAME, allocationSize = 50)
     private Long id;
 
-    @Column(length = 20, nullable = false)
+    @Column(length = NAME_MAX_LENGTH, nullable = false)
     private String name;
 
     protected Station() {
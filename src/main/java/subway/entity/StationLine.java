@@ -1,9 +1,15 @@
 package subway.entity;
 
+import org.springframework.data.domain.AbstractAggregateRoot;
+
 import javax.persistence.*;
 
+/**
+ * 지하철 노선, 변경될 때마다 {@link StationLineChangedEvent}를, 구간이 추가/삭제될 때마다
+ * {@link StationSectionAddedEvent}/{@link StationSectionRemovedEvent}를 등록하며 저장 시 발행된다.
+ */
 @Entity
-public class StationLine {
+public class StationLine extends AbstractAggregateRoot<StationLine> {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -19,6 +25,9 @@ public class StationLine {
 
     private int distance;
 
+    @Version
+    private Long version;
+
     @Embedded
     private StationSections sections = new StationSections();
 
@@ -36,6 +45,7 @@ public class StationLine {
     public StationLine update(String name, String color) {
         this.name = name;
         this.color = color;
+        registerChangedEvent();
         return this;
     }
 
@@ -62,15 +72,36 @@ public class StationLine {
 
     public void updateDownStation(Long downStationId) {
         this.downStationId = downStationId;
+        registerChangedEvent();
     }
 
     public void addSection(StationSection createdStationSection) {
         sections.addSection(createdStationSection);
+        registerEvent(new StationSectionAddedEvent(this, createdStationSection));
+        registerChangedEvent();
     }
 
     public void deleteSectionSection(Long stationIdToDelete) {
-        this.sections.deleteSection(stationIdToDelete);
+        StationSection deletedSection = this.sections.deleteSection(stationIdToDelete);
         this.downStationId = sections.findLastStationId();
+        registerEvent(new StationSectionRemovedEvent(this, deletedSection));
+        registerChangedEvent();
+    }
+
+    /**
+     * 등록된 도메인 이벤트 제거, 저장소의 save를 거치지 않아 이벤트가 발행되지 않는 경우(가져오기 등) 이벤트가 쌓이지 않도록 호출
+     */
+    public void discardDomainEvents() {
+        clearDomainEvents();
+    }
+
+    /**
+     * 한 번의 저장에서 노선 변경 이벤트가 한 번만 발행되도록 등록
+     */
+    private void registerChangedEvent() {
+        if (domainEvents().stream().noneMatch(StationLineChangedEvent.class::isInstance)) {
+            registerEvent(new StationLineChangedEvent(this));
+        }
     }
 
     public Long getId() {
@@ -97,6 +128,10 @@ public class StationLine {
         return distance;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public StationSections getSections() {
         return sections;
     }
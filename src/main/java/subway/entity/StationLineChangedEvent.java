@@ -0,0 +1,20 @@
+package subway.entity;
+
+/**
+ * 지하철 노선의 이름/색상 또는 구간이 변경되었음을 알리는 이벤트
+ */
+public class StationLineChangedEvent {
+
+    private final StationLine stationLine;
+
+    StationLineChangedEvent(StationLine stationLine) {
+        this.stationLine = stationLine;
+    }
+
+    /**
+     * 새로 생성된 노선의 ID는 저장 이후 할당되므로, 이벤트를 처리하는 시점에 조회
+     */
+    public Long getStationLineId() {
+        return stationLine.getId();
+    }
+}
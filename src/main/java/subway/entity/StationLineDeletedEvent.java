@@ -0,0 +1,17 @@
+package subway.entity;
+
+/**
+ * 지하철 노선이 삭제되었음을 알리는 이벤트
+ */
+public class StationLineDeletedEvent {
+
+    private final Long stationLineId;
+
+    public StationLineDeletedEvent(Long stationLineId) {
+        this.stationLineId = stationLineId;
+    }
+
+    public Long getStationLineId() {
+        return stationLineId;
+    }
+}
@@ -1,6 +1,31 @@
 package subway.entity;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface StationLineRepository extends JpaRepository<StationLine, Long> {
+
+    @Query("select distinct sl from StationLine sl left join fetch sl.sections.sections order by sl.id")
+    List<StationLine> findAllWithSections();
+
+    @Query("select distinct sl from StationLine sl left join fetch sl.sections.sections "
+            + "where sl.id in :stationLineIds order by sl.id")
+    List<StationLine> findAllWithSectionsByIdIn(@Param("stationLineIds") Collection<Long> stationLineIds);
+
+    @Query("select sl.id from StationLine sl order by sl.id")
+    List<Long> findAllIds();
+
+    @Query("select sl from StationLine sl left join fetch sl.sections.sections where sl.id = :stationLineId")
+    Optional<StationLine> findWithSectionsById(@Param("stationLineId") Long stationLineId);
+
+    @Modifying
+    @Query("update StationLine sl set sl.downStationId = :downStationId, sl.version = sl.version + 1 "
+            + "where sl.id = :stationLineId")
+    void updateDownStationId(@Param("stationLineId") Long stationLineId, @Param("downStationId") Long downStationId);
 }
@@ -1,7 +1,44 @@
 package subway.entity;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import subway.entity.Station;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 public interface StationRepository extends JpaRepository<Station, Long> {
-}
\ No newline at end of file
+
+    List<Station> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 주어진 지하철역을 공유 락을 걸고 조회, 구간 저장 중 역이 삭제되지 않도록 커밋까지 유지
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<Station> findAllForShareByIdIn(Collection<Long> ids);
+
+    /**
+     * 주어진 지하철역을 배타 락을 걸고 조회, 역 삭제 중 해당 역을 포함한 구간이 저장되지 않도록 커밋까지 유지
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Station> findAllForUpdateByIdIn(Collection<Long> ids);
+
+    @Query("select s.id from Station s")
+    List<Long> findAllIds();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select s from Station s order by s.id")
+    Stream<Station> streamAllOrderById();
+}
@@ -10,7 +10,8 @@ public class StationSection {
     public static final int MIN_DISTANCE_VALUE = 1;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "station_section_id_generator")
+    @SequenceGenerator(name = "station_section_id_generator", sequenceName = "station_section_seq", allocationSize = 50)
     private Long id;
 
     private Long upStationId;
@@ -19,6 +20,11 @@ public class StationSection {
 
     private int distance;
 
+    /**
+     * 노선 내 구간의 연결 순서, 구간 목록을 순서대로 조회하기 위해 사용
+     */
+    private int position;
+
     @ManyToOne
     private StationLine stationLine;
 
@@ -56,7 +62,7 @@ public class StationSection {
 
     public StationSection setStationLine(StationLine stationLine) {
         this.stationLine = stationLine;
-        stationLine.getSections().addSection(this);
+        stationLine.addSection(this);
 
         return this;
     }
@@ -75,6 +81,10 @@ public class StationSection {
         return distance;
     }
 
+    void assignPosition(int position) {
+        this.position = position;
+    }
+
     public Long getId() {
         return id;
     }
@@ -91,6 +101,10 @@ public class StationSection {
         return distance;
     }
 
+    public int getPosition() {
+        return position;
+    }
+
     public StationLine getStationLine() {
         return stationLine;
     }
@@ -0,0 +1,48 @@
+package subway.entity;
+
+/**
+ * 지하철 노선에 구간이 추가되었음을 알리는 이벤트
+ */
+public class StationSectionAddedEvent {
+
+    private final StationLine stationLine;
+
+    private final Long upStationId;
+
+    private final Long downStationId;
+
+    private final int distance;
+
+    StationSectionAddedEvent(StationLine stationLine, StationSection section) {
+        this.stationLine = stationLine;
+        this.upStationId = section.getUpStationId();
+        this.downStationId = section.getDownStationId();
+        this.distance = section.getDistance();
+    }
+
+    /**
+     * 새로 생성된 노선의 ID는 저장 이후 할당되므로, 이벤트를 처리하는 시점에 조회
+     */
+    public Long getStationLineId() {
+        return stationLine.getId();
+    }
+
+    /**
+     * 노선 버전은 flush 시점에 증가하므로, 커밋 이후 이벤트를 처리하는 시점에 조회
+     */
+    public Long getStationLineVersion() {
+        return stationLine.getVersion();
+    }
+
+    public Long getUpStationId() {
+        return upStationId;
+    }
+
+    public Long getDownStationId() {
+        return downStationId;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
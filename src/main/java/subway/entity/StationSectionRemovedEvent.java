@@ -0,0 +1,45 @@
+package subway.entity;
+
+/**
+ * 지하철 노선에서 구간이 삭제되었음을 알리는 이벤트
+ */
+public class StationSectionRemovedEvent {
+
+    private final StationLine stationLine;
+
+    private final Long upStationId;
+
+    private final Long downStationId;
+
+    private final int distance;
+
+    StationSectionRemovedEvent(StationLine stationLine, StationSection section) {
+        this.stationLine = stationLine;
+        this.upStationId = section.getUpStationId();
+        this.downStationId = section.getDownStationId();
+        this.distance = section.getDistance();
+    }
+
+    public Long getStationLineId() {
+        return stationLine.getId();
+    }
+
+    /**
+     * 노선 버전은 flush 시점에 증가하므로, 커밋 이후 이벤트를 처리하는 시점에 조회
+     */
+    public Long getStationLineVersion() {
+        return stationLine.getVersion();
+    }
+
+    public Long getUpStationId() {
+        return upStationId;
+    }
+
+    public Long getDownStationId() {
+        return downStationId;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
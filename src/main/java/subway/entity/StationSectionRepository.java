@@ -1,6 +1,17 @@
 package subway.entity;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface StationSectionRepository extends JpaRepository<StationSection, Long> {
+
+    @Query("select ss.stationLine.id as stationLineId, ss.stationLine.version as stationLineVersion, ss.id as id, "
+            + "ss.upStationId as upStationId, ss.downStationId as downStationId, ss.distance as distance "
+            + "from StationSection ss")
+    List<StationSectionView> findAllViews();
+
+    boolean existsByUpStationIdInOrDownStationIdIn(Collection<Long> upStationIds, Collection<Long> downStationIds);
 }
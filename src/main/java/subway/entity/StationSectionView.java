@@ -0,0 +1,19 @@
+package subway.entity;
+
+/**
+ * 지하철 구간의 노선 ID와 버전, 구간 ID, 상/하행역 ID, 거리만 조회하기 위한 프로젝션
+ */
+public interface StationSectionView {
+
+    Long getStationLineId();
+
+    Long getStationLineVersion();
+
+    Long getId();
+
+    Long getUpStationId();
+
+    Long getDownStationId();
+
+    int getDistance();
+}
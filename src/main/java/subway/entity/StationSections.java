@@ -2,53 +2,192 @@ package subway.entity;
 
 import javax.persistence.CascadeType;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Transient;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class StationSections {
 
     public static final int MIN_DELETE_REQUIRED_SECTIONS_SIZE = 1;
 
     @OneToMany(mappedBy = "stationLine", cascade = CascadeType.PERSIST, orphanRemoval = true)
+    @OrderBy("position")
     private final List<StationSection> sections = new ArrayList<>();
 
+    /**
+     * 상행역 ID → 구간 색인, 영속화하지 않으며 색인된 목록과 현재 목록이 다르면 다시 생성
+     */
+    @Transient
+    private transient Map<Long, StationSection> sectionsByUpStationId = new HashMap<>();
+
+    /**
+     * 하행역 ID → 구간 색인, 영속화하지 않으며 색인된 목록과 현재 목록이 다르면 다시 생성
+     */
+    @Transient
+    private transient Map<Long, StationSection> sectionsByDownStationId = new HashMap<>();
+
+    /**
+     * 상행 종점 구간, 조회 순서와 관계없이 색인으로부터 결정
+     */
+    @Transient
+    private transient StationSection head;
+
+    /**
+     * 하행 종점 구간, 조회 순서와 관계없이 색인으로부터 결정
+     */
+    @Transient
+    private transient StationSection tail;
+
+    @Transient
+    private transient List<StationSection> indexedSections;
+
+    @Transient
+    private transient int indexedSize;
+
     protected StationSections() {
+        this.indexedSections = sections;
     }
 
+    /**
+     * 구간을 하행 종점 뒤(또는 상행 종점 앞)에 연결하고, 노선 내 위치를 부여
+     *
+     * @param section 추가할 구간
+     */
     public void addSection(StationSection section) {
+        ensureIndexed();
+        if (head == null) {
+            head = section;
+            tail = section;
+            section.assignPosition(0);
+        } else if (section.getDownStationId().equals(head.getUpStationId())
+                && !section.getUpStationId().equals(tail.getDownStationId())) {
+            section.assignPosition(head.getPosition() - 1);
+            head = section;
+        } else {
+            section.assignPosition(tail.getPosition() + 1);
+            tail = section;
+        }
         sections.add(section);
+        index(section);
+        indexedSize = sections.size();
     }
 
     public Long findFirstUpStation() {
-        return sections.get(0).getUpStationId();
+        ensureIndexed();
+        return head.getUpStationId();
     }
 
     public boolean areAllUpStationsDifferentFrom(StationSection newSection) {
-        return sections.stream()
-                .noneMatch(existSection -> existSection.isUpStationSame(newSection.getDownStationId()));
+        ensureIndexed();
+        return !sectionsByUpStationId.containsKey(newSection.getDownStationId());
     }
 
     public boolean isDeletionAllowed() {
         return sections.size() > MIN_DELETE_REQUIRED_SECTIONS_SIZE;
     }
 
-    public void deleteSection(Long stationIdToDelete) {
-        StationSection stationSectionToDelete = sections.stream()
-                .filter(section -> section.getDownStationId().equals(stationIdToDelete))
-                .findFirst()
-                .orElseThrow(RuntimeException::new);
+    /**
+     * 주어진 역을 하행역으로 하는 구간 삭제
+     *
+     * @param stationIdToDelete 삭제할 구간의 하행역 ID
+     * @return 삭제된 구간
+     */
+    public StationSection deleteSection(Long stationIdToDelete) {
+        ensureIndexed();
+        StationSection stationSectionToDelete = sectionsByDownStationId.get(stationIdToDelete);
+        if (stationSectionToDelete == null) {
+            throw new RuntimeException();
+        }
 
-        sections.remove(stationSectionToDelete);
+        int lastIndex = sections.size() - 1;
+        if (sections.get(lastIndex) == stationSectionToDelete) {
+            sections.remove(lastIndex);
+        } else {
+            sections.remove(stationSectionToDelete);
+        }
+        sectionsByUpStationId.remove(stationSectionToDelete.getUpStationId(), stationSectionToDelete);
+        sectionsByDownStationId.remove(stationSectionToDelete.getDownStationId(), stationSectionToDelete);
+        if (stationSectionToDelete == tail) {
+            tail = sectionsByDownStationId.get(stationSectionToDelete.getUpStationId());
+        }
+        if (stationSectionToDelete == head) {
+            head = sectionsByUpStationId.get(stationSectionToDelete.getDownStationId());
+        }
+        indexedSize = sections.size();
+        return stationSectionToDelete;
     }
 
     public Long findLastStationId() {
-        if (sections.isEmpty()) {
+        ensureIndexed();
+        if (tail == null) {
             throw new RuntimeException();
         }
-        return sections.get(sections.size() - 1).getDownStationId();
+        return tail.getDownStationId();
+    }
+
+    /**
+     * 상행 종점부터 하행 종점까지 구간을 연결 순서대로 반환
+     *
+     * @return 연결 순서대로 정렬된 구간 목록
+     * @throws IllegalStateException 구간이 하나의 연결된 노선을 이루지 않을 경우
+     */
+    public List<StationSection> getOrderedSections() {
+        ensureIndexed();
+        List<StationSection> orderedSections = new ArrayList<>(sections.size());
+        for (StationSection section = head; section != null;
+             section = sectionsByUpStationId.get(section.getDownStationId())) {
+            if (orderedSections.size() == sections.size()) {
+                throw new IllegalStateException("구간이 순환합니다.");
+            }
+            orderedSections.add(section);
+        }
+        if (orderedSections.size() != sections.size()) {
+            throw new IllegalStateException("구간이 하나로 연결되어 있지 않습니다.");
+        }
+        return orderedSections;
+    }
+
+    public List<Long> getStationIds() {
+        List<StationSection> orderedSections = getOrderedSections();
+        List<Long> stationIds = new ArrayList<>(orderedSections.size() + 1);
+        stationIds.add(findFirstUpStation());
+        orderedSections.forEach(section -> stationIds.add(section.getDownStationId()));
+        return stationIds;
     }
 
     public List<StationSection> getSections() {
         return sections;
     }
+
+    /**
+     * 조회로 구간 목록이 새로 채워졌거나 색인 이후 목록이 변경된 경우 색인과 양 끝 구간을 다시 계산
+     */
+    private void ensureIndexed() {
+        if (sectionsByUpStationId != null && indexedSections == sections && indexedSize == sections.size()) {
+            return;
+        }
+        sectionsByUpStationId = new HashMap<>();
+        sectionsByDownStationId = new HashMap<>();
+        sections.forEach(this::index);
+        head = null;
+        tail = null;
+        for (StationSection section : sections) {
+            if (!sectionsByDownStationId.containsKey(section.getUpStationId())) {
+                head = section;
+            }
+            if (!sectionsByUpStationId.containsKey(section.getDownStationId())) {
+                tail = section;
+            }
+        }
+        indexedSections = sections;
+        indexedSize = sections.size();
+    }
+
+    private void index(StationSection section) {
+        sectionsByUpStationId.put(section.getUpStationId(), section);
+        sectionsByDownStationId.put(section.getDownStationId(), section);
+    }
 }
@@ -0,0 +1,19 @@
+package subway.entity;
+
+import java.util.List;
+
+/**
+ * 지하철역이 생성되었음을 알리는 이벤트
+ */
+public class StationsCreatedEvent {
+
+    private final List<Long> stationIds;
+
+    public StationsCreatedEvent(List<Long> stationIds) {
+        this.stationIds = List.copyOf(stationIds);
+    }
+
+    public List<Long> getStationIds() {
+        return stationIds;
+    }
+}
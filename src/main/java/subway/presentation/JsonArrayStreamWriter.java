@@ -0,0 +1,49 @@
+package subway.presentation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 요소를 하나씩 전달받는 즉시 JSON 배열의 원소로 출력 스트림에 기록
+ * <p>
+ * 전체 목록을 메모리에 만들지 않으므로, 응답 크기와 관계없이 사용하는 메모리가 일정하다.
+ */
+@Component
+public class JsonArrayStreamWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonArrayStreamWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 주어진 생산자가 전달하는 요소들을 JSON 배열로 기록
+     *
+     * @param outputStream 응답 출력 스트림(기록 후 닫지 않음)
+     * @param producer     요소를 하나씩 전달하는 생산자
+     * @param <T>          요소 타입
+     */
+    public <T> void write(OutputStream outputStream, Consumer<Consumer<T>> producer) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            producer.accept(element -> writeElement(generator, element));
+            generator.writeEndArray();
+        }
+    }
+
+    private void writeElement(JsonGenerator generator, Object element) {
+        try {
+            generator.writeObject(element);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
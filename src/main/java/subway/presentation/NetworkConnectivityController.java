@@ -0,0 +1,32 @@
+package subway.presentation;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import subway.application.NetworkConnectivityService;
+import subway.dto.NetworkComponentResponse;
+import subway.dto.ReachabilityResponse;
+
+import java.util.List;
+
+@RestController
+public class NetworkConnectivityController {
+
+    private final NetworkConnectivityService networkConnectivityService;
+
+    public NetworkConnectivityController(NetworkConnectivityService networkConnectivityService) {
+        this.networkConnectivityService = networkConnectivityService;
+    }
+
+    @GetMapping("/network/reachability")
+    public ResponseEntity<ReachabilityResponse> showReachability(@RequestParam Long source,
+                                                                 @RequestParam Long target) {
+        return ResponseEntity.ok().body(networkConnectivityService.findReachability(source, target));
+    }
+
+    @GetMapping("/network/components")
+    public ResponseEntity<List<NetworkComponentResponse>> showComponents() {
+        return ResponseEntity.ok().body(networkConnectivityService.findComponents());
+    }
+}
@@ -0,0 +1,35 @@
+package subway.presentation;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import subway.application.NetworkImportService;
+import subway.dto.NetworkImportResponse;
+import subway.dto.NetworkImportRow;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+public class NetworkImportController {
+
+    private final NetworkImportService networkImportService;
+
+    private final ObjectMapper objectMapper;
+
+    public NetworkImportController(NetworkImportService networkImportService, ObjectMapper objectMapper) {
+        this.networkImportService = networkImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(value = "/imports/network", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<NetworkImportResponse> importNetwork(InputStream requestBody) throws IOException {
+        try (MappingIterator<NetworkImportRow> rows =
+                     objectMapper.readerFor(NetworkImportRow.class).readValues(requestBody)) {
+            return ResponseEntity.ok(networkImportService.importNetwork(rows));
+        }
+    }
+}
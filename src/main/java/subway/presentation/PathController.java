@@ -0,0 +1,23 @@
+package subway.presentation;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import subway.application.PathService;
+import subway.dto.PathResponse;
+
+@RestController
+public class PathController {
+
+    private final PathService pathService;
+
+    public PathController(PathService pathService) {
+        this.pathService = pathService;
+    }
+
+    @GetMapping("/paths")
+    public ResponseEntity<PathResponse> showShortestPath(@RequestParam Long source, @RequestParam Long target) {
+        return ResponseEntity.ok().body(pathService.findShortestPath(source, target));
+    }
+}
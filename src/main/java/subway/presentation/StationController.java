@@ -1,10 +1,16 @@
 package subway.presentation;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.application.ResourceVersions;
 import subway.application.StationService;
+import subway.dto.StationPageResponse;
 import subway.dto.StationRequest;
 import subway.dto.StationResponse;
+import subway.dto.StationUsageResponse;
 
 import java.net.URI;
 import java.util.List;
@@ -13,8 +19,16 @@ import java.util.List;
 public class StationController {
     private StationService stationService;
 
-    public StationController(StationService stationService) {
+    private ResourceVersions resourceVersions;
+
+    private JsonArrayStreamWriter jsonArrayStreamWriter;
+
+    public StationController(StationService stationService,
+                             ResourceVersions resourceVersions,
+                             JsonArrayStreamWriter jsonArrayStreamWriter) {
         this.stationService = stationService;
+        this.resourceVersions = resourceVersions;
+        this.jsonArrayStreamWriter = jsonArrayStreamWriter;
     }
 
     @PostMapping("/stations")
@@ -23,9 +37,48 @@ public class StationController {
         return ResponseEntity.created(URI.create("/stations/" + station.getId())).body(station);
     }
 
+    @PostMapping("/stations/bulk")
+    public ResponseEntity<List<StationResponse>> createStations(@RequestBody List<StationRequest> stationRequests) {
+        return ResponseEntity.created(URI.create("/stations"))
+                .body(stationService.createStations(stationRequests));
+    }
+
     @GetMapping(value = "/stations")
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    public ResponseEntity<List<StationResponse>> showStations(WebRequest webRequest) {
+        String eTag = resourceVersions.stationsETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(stationService.findAllStations());
+    }
+
+    @GetMapping(value = "/stations", params = {"size", "!stream"})
+    public ResponseEntity<StationPageResponse> showStations(@RequestParam(required = false) Long cursor,
+                                                            @RequestParam int size) {
+        return ResponseEntity.ok().body(stationService.findStations(cursor, size));
+    }
+
+    @GetMapping(value = "/stations", params = {"stream=true", "!size"})
+    public ResponseEntity<StreamingResponseBody> streamStations() {
+        StreamingResponseBody body = outputStream -> jsonArrayStreamWriter.write(outputStream,
+                stationService::streamAllStations);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @GetMapping(value = "/stations", params = {"size", "stream"})
+    public ResponseEntity<Void> rejectPagedStream() {
+        throw new IllegalArgumentException("size와 stream은 함께 사용할 수 없습니다.");
+    }
+
+    @GetMapping("/stations/{id}/lines")
+    public ResponseEntity<List<StationUsageResponse>> showStationUsages(@PathVariable Long id) {
+        return ResponseEntity.ok().body(stationService.findStationUsages(id));
+    }
+
+    @DeleteMapping("/stations/bulk")
+    public ResponseEntity<Void> deleteStations(@RequestBody List<Long> ids) {
+        stationService.deleteStationsByIds(ids);
+        return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping("/stations/{id}")
@@ -1,8 +1,13 @@
 package subway.presentation;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import subway.application.ResourceVersions;
 import subway.application.StationLineService;
+import subway.dto.StationLineDistanceResponse;
 import subway.dto.StationLineRequest;
 import subway.dto.StationLineResponse;
 
@@ -14,8 +19,16 @@ public class StationLineController {
 
     private final StationLineService stationLineService;
 
-    public StationLineController(StationLineService stationLineService) {
+    private final ResourceVersions resourceVersions;
+
+    private final JsonArrayStreamWriter jsonArrayStreamWriter;
+
+    public StationLineController(StationLineService stationLineService,
+                                 ResourceVersions resourceVersions,
+                                 JsonArrayStreamWriter jsonArrayStreamWriter) {
         this.stationLineService = stationLineService;
+        this.resourceVersions = resourceVersions;
+        this.jsonArrayStreamWriter = jsonArrayStreamWriter;
     }
 
     @PostMapping("/lines")
@@ -25,13 +38,38 @@ public class StationLineController {
     }
 
     @GetMapping("/lines")
-    public ResponseEntity<List<StationLineResponse>> findAllStationLines() {
-        return ResponseEntity.ok(stationLineService.findAllStationLines());
+    public ResponseEntity<List<StationLineResponse>> findAllStationLines(WebRequest webRequest) {
+        String eTag = resourceVersions.stationLinesETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(stationLineService.findAllStationLines());
+    }
+
+    @GetMapping(value = "/lines", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllStationLines() {
+        StreamingResponseBody body = outputStream -> jsonArrayStreamWriter.write(outputStream,
+                stationLineService::streamAllStationLines);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @GetMapping("/lines/{stationLineId}")
-    public ResponseEntity<StationLineResponse> findStationLineById(@PathVariable Long stationLineId) {
-        return ResponseEntity.ok(stationLineService.findStationLineById(stationLineId));
+    public ResponseEntity<byte[]> findStationLineById(@PathVariable Long stationLineId, WebRequest webRequest) {
+        String eTag = resourceVersions.stationLineETag(stationLineId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(stationLineService.findStationLineJsonById(stationLineId));
+    }
+
+    @GetMapping("/lines/{stationLineId}/distance")
+    public ResponseEntity<StationLineDistanceResponse> findDistance(@PathVariable Long stationLineId,
+                                                                    @RequestParam Long from,
+                                                                    @RequestParam Long to) {
+        return ResponseEntity.ok().body(stationLineService.findDistance(stationLineId, from, to));
     }
 
     @PutMapping("/lines/{stationLineId}")
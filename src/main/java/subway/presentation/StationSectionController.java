@@ -7,6 +7,7 @@ import subway.dto.StationSectionRequest;
 import subway.dto.StationSectionResponse;
 
 import java.net.URI;
+import java.util.List;
 
 @RestController
 public class StationSectionController {
@@ -26,6 +27,15 @@ public class StationSectionController {
                 URI.create(String.format("/lines/%d/sections", stationLineId))).body(stationSectionResponse);
     }
 
+    @PostMapping("/lines/{stationLineId}/sections/batch")
+    public ResponseEntity<List<StationSectionResponse>> createStationSections(
+            @PathVariable Long stationLineId, @RequestBody List<StationSectionRequest> requests) {
+        List<StationSectionResponse> stationSectionResponses =
+                stationLineService.createStationSections(stationLineId, requests);
+        return ResponseEntity.created(
+                URI.create(String.format("/lines/%d/sections", stationLineId))).body(stationSectionResponses);
+    }
+
     @DeleteMapping("/lines/{stationLineId}/sections")
     public ResponseEntity<Void> deleteStationLine(@PathVariable Long stationLineId,
                                                   @RequestParam(name = "stationId") Long stationIdToDelete) {
@@ -1,8 +1,9 @@
 SET REFERENTIAL_INTEGRITY FALSE;
 
 -- H2는 TRUNCATE TABLE을 실행하더라도 IDENTITY가 기본값으로 재설정 필요
-TRUNCATE TABLE station RESTART IDENTITY;
+-- 지하철역, 구간 ID는 Hibernate가 시퀀스 값을 미리 할당받아 사용하므로, 시퀀스를 재설정하지 않음(테스트는 생성 응답의 ID 사용)
+TRUNCATE TABLE station;
 TRUNCATE TABLE station_line RESTART IDENTITY;
-TRUNCATE TABLE station_section RESTART IDENTITY;
+TRUNCATE TABLE station_section;
 
 SET REFERENTIAL_INTEGRITY TRUE;
\ No newline at end of file
@@ -1,6 +1,8 @@
 package config.annotations;
 
+import config.listeners.ReadModelCleanupListener;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.lang.annotation.Retention;
@@ -9,5 +11,7 @@ import java.lang.annotation.RetentionPolicy;
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
 @Retention(RetentionPolicy.RUNTIME)
 @Sql(value = "/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@TestExecutionListeners(listeners = ReadModelCleanupListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
 public @interface AcceptanceTest {
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+package config.listeners;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+import subway.application.LiveStationIds;
+import subway.application.PathCache;
+import subway.application.StationCache;
+import subway.application.StationLineSnapshots;
+import subway.application.StationUsageIndex;
+import subway.application.SubwayNetwork;
+import subway.config.ProjectionExecutorConfig;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트 메서드 종료 후 DB 초기화(clean.sql)와 함께 메모리에 유지되는 조회 모델 초기화
+ * <p>
+ * 비동기로 진행 중인 조회 모델 갱신이 초기화 이후 이전 테스트의 데이터를 남기지 않도록, 갱신이 모두 끝난 뒤 초기화한다.
+ */
+public class ReadModelCleanupListener extends AbstractTestExecutionListener {
+
+    private static final long PROJECTION_TIMEOUT_MILLIS = 5_000;
+
+    private static final long IDLE_CONFIRM_MILLIS = 20;
+
+    @Override
+    public void afterTestMethod(TestContext testContext) {
+        ApplicationContext applicationContext = testContext.getApplicationContext();
+        awaitProjections(applicationContext);
+        applicationContext.getBean(StationCache.class).clear();
+        applicationContext.getBean(StationLineSnapshots.class).clear();
+        applicationContext.getBean(LiveStationIds.class).clear();
+        applicationContext.getBean(StationUsageIndex.class).clear();
+        applicationContext.getBean(SubwayNetwork.class).clear();
+        applicationContext.getBean(PathCache.class).clear();
+    }
+
+    /**
+     * 대기 중이거나 실행 중인 조회 모델 갱신이 모두 끝날 때까지 대기
+     *
+     * @param applicationContext 테스트 애플리케이션 컨텍스트
+     */
+    public static void awaitProjections(ApplicationContext applicationContext) {
+        ThreadPoolExecutor executor = applicationContext
+                .getBean(ProjectionExecutorConfig.PROJECTION_EXECUTOR, ThreadPoolTaskExecutor.class)
+                .getThreadPoolExecutor();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(PROJECTION_TIMEOUT_MILLIS);
+        do {
+            while (!isIdle(executor)) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("조회 모델 갱신이 끝나지 않았습니다.");
+                }
+                Thread.onSpinWait();
+            }
+            sleep(IDLE_CONFIRM_MILLIS);
+        } while (!isIdle(executor));
+    }
+
+    /**
+     * 대기열에서 꺼낸 작업이 실행 중으로 집계되기 직전에는 잠시 유휴 상태로 보일 수 있으므로, 호출하는 쪽에서 한 번 더 확인
+     */
+    private static boolean isIdle(ThreadPoolExecutor executor) {
+        return executor.getQueue().isEmpty() && executor.getActiveCount() == 0;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
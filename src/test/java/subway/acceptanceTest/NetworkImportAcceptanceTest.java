@@ -0,0 +1,89 @@
+package subway.acceptanceTest;
+
+import config.annotations.AcceptanceTest;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.steps.StationLineSteps.모든_지하철_노선_조회_요청;
+
+@DisplayName("지하철 노선도 가져오기")
+@AcceptanceTest
+public class NetworkImportAcceptanceTest {
+
+    private static final String 역_3개 =
+            "{\"type\":\"station\",\"key\":\"S1\",\"name\":\"강남\"}\n"
+            + "{\"type\":\"station\",\"key\":\"S2\",\"name\":\"역삼\"}\n"
+            + "{\"type\":\"station\",\"key\":\"S3\",\"name\":\"선릉\"}\n";
+
+    private static final String 이호선 =
+            "{\"type\":\"line\",\"key\":\"L2\",\"name\":\"2호선\",\"color\":\"bg-green-600\","
+            + "\"upStation\":\"S1\",\"downStation\":\"S2\",\"distance\":10}\n";
+
+    /**
+     * When  역, 노선, 구간이 순서대로 기록된 파일을 가져오면
+     * Then  모든 역, 노선, 구간이 등록되고
+     * Then  노선 목록 조회 시 가져온 노선의 역을 순서대로 찾을 수 있다.
+     */
+    @Test
+    void 역_노선_구간을_한번에_가져온다() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선도_가져오기_요청(역_3개 + 이호선
+                + "{\"type\":\"section\",\"line\":\"L2\",\"upStation\":\"S2\",\"downStation\":\"S3\",\"distance\":5}\n");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getInt("stations")).isEqualTo(3);
+        assertThat(response.jsonPath().getInt("lines")).isEqualTo(1);
+        assertThat(response.jsonPath().getInt("sections")).isEqualTo(2);
+        assertThat(모든_지하철_노선_조회_요청().getList("[0].stations.name", String.class))
+                .isEqualTo(List.of("강남", "역삼", "선릉"));
+    }
+
+    /**
+     * When  하행 종점역에 이어지지 않는 구간이 포함된 파일을 가져오면
+     * Then  가져오기에 실패하고, 어떤 노선도 등록되지 않는다.
+     */
+    @Test
+    void 저장할_수_없는_구간이_포함된_경우_가져오기_실패() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선도_가져오기_요청(역_3개 + 이호선
+                + "{\"type\":\"section\",\"line\":\"L2\",\"upStation\":\"S3\",\"downStation\":\"S1\",\"distance\":5}\n");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(모든_지하철_노선_조회_요청().getList("id")).isEmpty();
+    }
+
+    /**
+     * When  이름이 비어 있는 역이 포함된 파일을 가져오면
+     * Then  가져오기에 실패하고, 실패한 행 번호를 응답 받는다.
+     */
+    @Test
+    void 이름이_비어_있는_역이_포함된_경우_가져오기_실패() {
+        // when
+        ExtractableResponse<Response> response = 지하철_노선도_가져오기_요청(역_3개
+                + "{\"type\":\"station\",\"key\":\"S4\",\"name\":\" \"}\n");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.jsonPath().getString("message")).startsWith("4번째 행");
+    }
+
+    private ExtractableResponse<Response> 지하철_노선도_가져오기_요청(String rows) {
+        return given().log().all()
+                .body(rows)
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE + ";charset=UTF-8")
+                .when()
+                .post("/imports/network")
+                .then().log().all()
+                .extract();
+    }
+}
@@ -0,0 +1,149 @@
+package subway.acceptanceTest;
+
+import config.annotations.AcceptanceTest;
+import config.listeners.ReadModelCleanupListener;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import subway.dto.StationLineRequest;
+
+import java.util.List;
+
+import static config.fixtures.subway.StationMockData.역_10개;
+import static config.fixtures.subway.StationSectionMockData.지하철_구간;
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.steps.PathSteps.도달_가능_여부_조회_요청;
+import static subway.steps.PathSteps.역_묶음_조회_요청;
+import static subway.steps.PathSteps.최단_경로_조회_요청;
+import static subway.steps.StationLineSteps.지하철_노선_생성_요청_검증_포함;
+import static subway.steps.StationSectionSteps.지하철_구간_삭제요청_검증_생략;
+import static subway.steps.StationSectionSteps.지하철_구간_생성요청_상태코드_검증_포함;
+import static subway.steps.StationSteps.지하철_역_생성_요청;
+import static utils.HttpResponseUtils.getCreatedLocationId;
+
+@DisplayName("지하철 경로 조회")
+@AcceptanceTest
+public class PathAcceptanceTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private List<Long> 역_ID_목록;
+
+    private Long 구로선;
+
+    /**
+     * 초기에 생성한 역의 순번 기준
+     * 1 --(10)-- 2 --(10)-- 3  (가산선)
+     * 1 --(5)--- 4 --(5)--- 3  (구로선)
+     */
+    @BeforeEach
+    void 노선도_설정() {
+        역_ID_목록 = 지하철_역_생성_요청(역_10개);
+
+        Long 가산선 = getCreatedLocationId(
+                지하철_노선_생성_요청_검증_포함(new StationLineRequest("가산선", "bg-red-600", 역(1), 역(2), 10)));
+        지하철_구간_생성요청_상태코드_검증_포함(가산선, 지하철_구간(역(2), 역(3), 10));
+
+        구로선 = getCreatedLocationId(
+                지하철_노선_생성_요청_검증_포함(new StationLineRequest("구로선", "bg-blue-600", 역(1), 역(4), 5)));
+        지하철_구간_생성요청_상태코드_검증_포함(구로선, 지하철_구간(역(4), 역(3), 5));
+
+        ReadModelCleanupListener.awaitProjections(applicationContext);
+    }
+
+    /**
+     * Given 두 개의 경로로 연결된 노선도가 주어지고
+     * When  출발역과 도착역 사이의 경로를 조회하면
+     * Then  거리가 가장 짧은 경로의 역 목록과 총 거리를 응답 받는다.
+     */
+    @Test
+    void 최단_경로_조회() {
+        // when
+        ExtractableResponse<Response> response = 최단_경로_조회_요청(역(1), 역(3));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(역(1), 역(4), 역(3));
+        assertThat(response.jsonPath().getLong("distance")).isEqualTo(10L);
+    }
+
+    /**
+     * Given 두 개의 경로로 연결된 노선도가 주어지고
+     * When  최단 경로에 포함된 구간을 삭제하면
+     * Then  경로 조회 시 남은 경로의 역 목록과 총 거리를 응답 받는다.
+     */
+    @Test
+    void 최단_경로의_구간을_삭제하면_남은_경로로_조회() {
+        // when
+        ExtractableResponse<Response> 삭제_응답 = 지하철_구간_삭제요청_검증_생략(역(3), 구로선);
+        ReadModelCleanupListener.awaitProjections(applicationContext);
+
+        // then
+        assertThat(삭제_응답.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        ExtractableResponse<Response> response = 최단_경로_조회_요청(역(1), 역(3));
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(역(1), 역(2), 역(3));
+        assertThat(response.jsonPath().getLong("distance")).isEqualTo(20L);
+    }
+
+    /**
+     * Given 노선도가 주어지고
+     * When  어떤 노선에도 포함되지 않은 역으로 경로를 조회하면
+     * Then  경로 조회에 실패한다.
+     */
+    @Test
+    void 노선에_포함되지_않은_역의_경로_조회() {
+        // when
+        ExtractableResponse<Response> response = 최단_경로_조회_요청(역(1), 역(10));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Given 노선도가 주어지고
+     * When  출발역과 도착역이 같은 경로를 조회하면
+     * Then  경로 조회에 실패한다.
+     */
+    @Test
+    void 출발역과_도착역이_같은_경로_조회() {
+        // when
+        ExtractableResponse<Response> response = 최단_경로_조회_요청(역(1), 역(1));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Given 노선도가 주어지고
+     * When  두 역의 도달 가능 여부와 역 묶음을 조회하면
+     * Then  노선도로 연결된 역끼리만 도달할 수 있고, 연결된 역 1, 2, 3, 4가 하나의 묶음으로 응답된다.
+     */
+    @Test
+    void 도달_가능_여부와_역_묶음_조회() {
+        // when
+        ExtractableResponse<Response> 연결된_역_응답 = 도달_가능_여부_조회_요청(역(2), 역(4));
+        ExtractableResponse<Response> 노선에_없는_역_응답 = 도달_가능_여부_조회_요청(역(2), 역(10));
+        ExtractableResponse<Response> 역_묶음_응답 = 역_묶음_조회_요청();
+
+        // then
+        assertThat(연결된_역_응답.jsonPath().getBoolean("reachable")).isTrue();
+        assertThat(노선에_없는_역_응답.jsonPath().getBoolean("reachable")).isFalse();
+        assertThat(역_묶음_응답.jsonPath().getList("stationIds[0]", Long.class))
+                .containsExactly(역(1), 역(2), 역(3), 역(4));
+        assertThat(역_묶음_응답.jsonPath().getList("size", Integer.class)).containsExactly(4);
+    }
+
+    /**
+     * 초기에 생성한 지하철역 중 주어진 순번(1부터 시작)의 지하철역 ID 반환
+     */
+    private Long 역(int 순번) {
+        return 역_ID_목록.get(순번 - 1);
+    }
+}
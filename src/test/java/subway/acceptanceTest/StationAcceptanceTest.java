@@ -2,17 +2,22 @@ package subway.acceptanceTest;
 
 import config.annotations.AcceptanceTest;
 import io.restassured.RestAssured;
+import io.restassured.path.json.JsonPath;
+import io.restassured.specification.RequestSpecification;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
+import subway.dto.StationLineRequest;
 import subway.dto.StationRequest;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static subway.steps.StationLineSteps.지하철_노선_생성_요청_검증_포함;
+import static utils.HttpResponseUtils.getCreatedLocationId;
 
 @DisplayName("지하철역 관련 기능")
 @AcceptanceTest
@@ -69,12 +74,12 @@ public class StationAcceptanceTest {
         //given
         String gasan = "가산디지털단지역";
 
-        createStationRequest(gasan);
+        Long gasanId = createStationRequest(gasan);
 
         // when
         RestAssured
                 .when()
-                .delete("/stations/" + 1)
+                .delete("/stations/" + gasanId)
                     .then()
                 .statusCode(HttpStatus.NO_CONTENT.value());
 
@@ -83,20 +88,183 @@ public class StationAcceptanceTest {
 
     }
 
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 크기가 2인 페이지로 지하철역 목록을 차례대로 조회하면
+     * Then 첫 페이지에서 2개, 다음 커서로 조회한 페이지에서 나머지 1개의 역을 응답 받는다
+     */
+    @Test
+    @DisplayName("지하철역 목록을 커서 기반 페이지로 조회한다.")
+    void showStationPages() {
+        // given
+        createStationRequest("가산디지털단지역");
+        createStationRequest("구로디지털단지역");
+        createStationRequest("신도림역");
+
+        // when
+        JsonPath firstPage = requestStationPage(null, 2);
+        JsonPath lastPage = requestStationPage(firstPage.getLong("nextCursor"), 2);
+
+        // then
+        assertThat(firstPage.getList("stations.name", String.class))
+                .containsExactly("가산디지털단지역", "구로디지털단지역");
+        assertThat(lastPage.getList("stations.name", String.class)).containsExactly("신도림역");
+        assertThat(lastPage.getString("nextCursor")).isNull();
+    }
+
+    /**
+     * Given 2개의 지하철역을 생성하고
+     * When 지하철역 목록을 스트리밍으로 조회하면
+     * Then 2개의 지하철역을 ID 순서로 응답 받는다
+     */
+    @Test
+    @DisplayName("지하철역 목록을 스트리밍으로 조회한다.")
+    void streamStations() {
+        // given
+        createStationRequest("가산디지털단지역");
+        createStationRequest("구로디지털단지역");
+
+        // when
+        List<String> stationNames = RestAssured.given()
+                    .param("stream", true)
+                .when()
+                    .get("/stations")
+                .then()
+                    .statusCode(HttpStatus.OK.value())
+                .extract().jsonPath().getList("name", String.class);
+
+        // then
+        assertThat(stationNames).containsExactly("가산디지털단지역", "구로디지털단지역");
+    }
+
+    /**
+     * When 페이지 크기와 스트리밍을 함께 지정해 지하철역 목록을 조회하면
+     * Then 조회에 실패한다
+     */
+    @Test
+    @DisplayName("페이지 조회와 스트리밍 조회는 함께 요청할 수 없다.")
+    void rejectPagedStream() {
+        // when
+        int statusCode = RestAssured.given()
+                    .param("size", 2)
+                    .param("stream", true)
+                .when()
+                    .get("/stations")
+                .then()
+                .extract().statusCode();
+
+        // then
+        assertThat(statusCode).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * When 3개의 지하철역을 일괄 생성하면
+     * Then 요청한 순서대로 ID가 할당된 지하철역 목록을 응답 받는다
+     * Then 지하철역 목록 조회 시 생성한 역을 찾을 수 있다
+     */
+    @Test
+    @DisplayName("지하철역을 일괄 생성한다.")
+    void createStations() {
+        // when
+        JsonPath response = RestAssured
+                .given()
+                    .body(List.of(new StationRequest("가산디지털단지역"),
+                            new StationRequest("구로디지털단지역"),
+                            new StationRequest("신도림역")))
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                    .post("/stations/bulk")
+                .then()
+                    .statusCode(HttpStatus.CREATED.value())
+                .extract().jsonPath();
+
+        // then
+        assertThat(response.getList("id", Long.class)).hasSize(3).doesNotHaveDuplicates().isSorted();
+        assertThat(response.getList("name", String.class))
+                .containsExactly("가산디지털단지역", "구로디지털단지역", "신도림역");
+        assertThat(requestListAndExtractStationInfo("name"))
+                .containsExactly("가산디지털단지역", "구로디지털단지역", "신도림역");
+    }
+
+    /**
+     * Given 3개의 지하철역을 생성하고
+     * When 그 중 2개의 지하철역을 일괄 삭제하면
+     * Then 지하철역 목록 조회 시 남은 1개의 역만 찾을 수 있다
+     */
+    @Test
+    @DisplayName("지하철역을 일괄 삭제한다.")
+    void deleteStations() {
+        // given
+        Long gasanId = createStationRequest("가산디지털단지역");
+        createStationRequest("구로디지털단지역");
+        Long sindorimId = createStationRequest("신도림역");
+
+        // when
+        RestAssured
+                .given()
+                    .body(List.of(gasanId, sindorimId))
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                    .delete("/stations/bulk")
+                .then()
+                    .statusCode(HttpStatus.NO_CONTENT.value());
+
+        // then
+        assertThat(requestListAndExtractStationInfo("name")).containsExactly("구로디지털단지역");
+    }
+
+    /**
+     * Given 2개의 지하철역을 생성하고, 두 역을 잇는 지하철 노선을 생성한다
+     * When  상행역을 포함하는 노선을 조회하면
+     * Then  생성한 노선과 그 구간을 응답 받는다
+     * When  상행역을 삭제하면
+     * Then  노선에 포함된 역이므로 삭제할 수 없다
+     */
+    @Test
+    @DisplayName("노선에 포함된 지하철역의 노선을 조회하고, 그 역은 삭제할 수 없다.")
+    void showStationUsagesAndRejectDeletion() {
+        // given
+        Long gasanId = createStationRequest("가산디지털단지역");
+        Long guroId = createStationRequest("구로디지털단지역");
+        Long stationLineId = 지하철_노선_생성_요청_검증_포함(
+                new StationLineRequest("1호선", "bg-blue-600", gasanId, guroId, 10)).jsonPath().getLong("id");
+
+        // when
+        JsonPath usages = RestAssured
+                .when()
+                    .get("/stations/" + gasanId + "/lines")
+                .then()
+                    .statusCode(HttpStatus.OK.value())
+                .extract().jsonPath();
+
+        // then
+        assertThat(usages.getList("stationLineId", Long.class)).containsExactly(stationLineId);
+        assertThat(usages.getList("sectionIds[0]", Long.class)).hasSize(1);
+
+        // when & then
+        RestAssured
+                .when()
+                    .delete("/stations/" + gasanId)
+                .then()
+                    .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
     /**
      * 주어진 지하철역 이름으로 지하철역 생성 요청 및 상태 코드 검증
      *
      * @param stationName 지하철역 이름
+     * @return 생성된 지하철역 ID
      */
-    private static void createStationRequest(String stationName) {
-        RestAssured
+    private static Long createStationRequest(String stationName) {
+        return getCreatedLocationId(RestAssured
                 .given()
                     .body(new StationRequest(stationName))
                     .contentType(MediaType.APPLICATION_JSON_VALUE)
                 .when()
                     .post("/stations")
                 .then()
-                    .statusCode(HttpStatus.CREATED.value());
+                    .statusCode(HttpStatus.CREATED.value())
+                .extract());
     }
 
 
@@ -113,4 +281,24 @@ public class StationAcceptanceTest {
                 .then()
                 .extract().jsonPath().getList(extractionTargetName , String.class);
     }
+
+    /**
+     * 지하철역 목록을 커서 기반 페이지로 요청하고 jsonPath 반환
+     *
+     * @param cursor 이전 페이지의 마지막 지하철역 ID(첫 페이지일 경우 null)
+     * @param size   페이지 크기
+     * @return 지하철역 페이지를 나타내는 jsonPath
+     */
+    private static JsonPath requestStationPage(Long cursor, int size) {
+        RequestSpecification request = RestAssured.given().param("size", size);
+        if (cursor != null) {
+            request.param("cursor", cursor);
+        }
+        return request
+                .when()
+                    .get("/stations")
+                .then()
+                    .statusCode(HttpStatus.OK.value())
+                .extract().jsonPath();
+    }
 }
\ No newline at end of file
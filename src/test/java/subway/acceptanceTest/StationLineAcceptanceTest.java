@@ -8,6 +8,8 @@ import io.restassured.response.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import subway.dto.StationLineRequest;
 import subway.dto.StationLineResponse;
 
@@ -16,8 +18,10 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static config.fixtures.subway.StationMockData.역_10개;
+import static config.fixtures.subway.StationSectionMockData.지하철_구간;
 import static org.assertj.core.api.Assertions.assertThat;
 import static subway.steps.StationLineSteps.*;
+import static subway.steps.StationSectionSteps.지하철_구간_생성요청_상태코드_검증_포함;
 import static subway.steps.StationSteps.지하철_역_생성_요청;
 import static utils.HttpResponseUtils.getCreatedLocationId;
 
@@ -29,9 +33,11 @@ public class StationLineAcceptanceTest {
     public static final String NAME_KEY = "name";
     public static final String COLOR_KEY = "color";
 
+    private List<Long> 역_ID_목록;
+
     @BeforeEach
     void 초기_지하철_역_설정() {
-        지하철_역_생성_요청(역_10개);
+        역_ID_목록 = 지하철_역_생성_요청(역_10개);
     }
 
     /**
@@ -43,7 +49,7 @@ public class StationLineAcceptanceTest {
     @Test
     void createStationLine() {
         // given
-        StationLineRequest 신분당선 = StationLineMockData.신분당선;
+        StationLineRequest 신분당선 = StationLineMockData.신분당선_생성(역(1), 역(2));
 
         // when
         지하철_노선_생성_요청_검증_포함(신분당선);
@@ -63,8 +69,8 @@ public class StationLineAcceptanceTest {
     @Test
     void findAllStationLine() {
         // given
-        StationLineRequest 신분당선 = StationLineMockData.신분당선;
-        StationLineRequest 분당선 = StationLineMockData.분당선;
+        StationLineRequest 신분당선 = StationLineMockData.신분당선_생성(역(1), 역(2));
+        StationLineRequest 분당선 = StationLineMockData.분당선_생성(역(2), 역(4));
 
         지하철_노선_생성_요청_검증_포함(신분당선);
         지하철_노선_생성_요청_검증_포함(분당선);
@@ -84,7 +90,7 @@ public class StationLineAcceptanceTest {
     @Test
     void findStationLine() {
         // given
-        StationLineRequest 신분당선 = StationLineMockData.신분당선;
+        StationLineRequest 신분당선 = StationLineMockData.신분당선_생성(역(1), 역(2));
         ExtractableResponse<Response> response = 지하철_노선_생성_요청_검증_포함(신분당선);
 
         // when, then
@@ -102,7 +108,7 @@ public class StationLineAcceptanceTest {
     @Test
     void updateStationLine() {
         // given
-        StationLineRequest 신분당선 = StationLineMockData.신분당선;
+        StationLineRequest 신분당선 = StationLineMockData.신분당선_생성(역(1), 역(2));
         StationLineRequest 수정된_신분당선 = StationLineMockData.수정된_신분당선;
 
         ExtractableResponse<Response> createResponse = 지하철_노선_생성_요청_검증_포함(신분당선);
@@ -125,9 +131,9 @@ public class StationLineAcceptanceTest {
     @Test
     void deleteStationLine() {
         // given
-        StationLineRequest 신분당선 = StationLineMockData.신분당선;
-        StationLineRequest 분당선 = StationLineMockData.분당선;
-        StationLineRequest 신림선 = StationLineMockData.신림선;
+        StationLineRequest 신분당선 = StationLineMockData.신분당선_생성(역(1), 역(2));
+        StationLineRequest 분당선 = StationLineMockData.분당선_생성(역(2), 역(4));
+        StationLineRequest 신림선 = StationLineMockData.신림선_생성(역(6), 역(10));
 
         ExtractableResponse<Response> 신분당선_생성요청_응답 = 지하철_노선_생성_요청_검증_포함(신분당선);
         ExtractableResponse<Response> 분당선_생성요청_응답 = 지하철_노선_생성_요청_검증_포함(분당선);
@@ -142,6 +148,72 @@ public class StationLineAcceptanceTest {
                 .isEqualTo(List.of(신분당선, 신림선));
     }
 
+    /**
+     * Given 지하철 노선을 생성하고, 조회 응답의 ETag를 받는다.
+     * When  받은 ETag로 다시 조회하면
+     * Then  304 Not Modified를 응답받는다.
+     * When  지하철 노선을 수정한 뒤 같은 ETag로 조회하면
+     * Then  수정된 지하철 노선 정보와 새로운 ETag를 응답받는다.
+     */
+    @DisplayName("지하철 노선을 조건부로 조회한다.")
+    @Test
+    void findStationLineConditionally() {
+        // given
+        ExtractableResponse<Response> createResponse =
+                지하철_노선_생성_요청_검증_포함(StationLineMockData.신분당선_생성(역(1), 역(2)));
+        Long stationLineId = getCreatedLocationId(createResponse);
+        String eTag = 지하철_노선_조건부_조회_요청(stationLineId, "\"none\"").header(HttpHeaders.ETAG);
+
+        // when
+        ExtractableResponse<Response> 변경되지_않은_노선_조회_응답 = 지하철_노선_조건부_조회_요청(stationLineId, eTag);
+
+        // then
+        assertThat(변경되지_않은_노선_조회_응답.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+
+        // when
+        지하철_노선_수정_요청(StationLineMockData.수정된_신분당선, stationLineId);
+        ExtractableResponse<Response> 변경된_노선_조회_응답 = 지하철_노선_조건부_조회_요청(stationLineId, eTag);
+
+        // then
+        assertThat(변경된_노선_조회_응답.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(변경된_노선_조회_응답.header(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        assertThat(변경된_노선_조회_응답.jsonPath().getString(NAME_KEY))
+                .isEqualTo(StationLineMockData.수정된_신분당선.getName());
+    }
+
+    /**
+     * Given 1-2-3-4 (거리 10, 7, 5) 순서로 구간이 등록된 지하철 노선을 생성하고
+     * When  노선에 포함된 두 역 사이의 거리를 조회하면
+     * Then  방향과 관계없이 두 역 사이 구간 거리의 합을 응답 받고, 노선에 없는 역은 조회에 실패한다.
+     */
+    @DisplayName("지하철 노선의 두 역 사이 거리를 조회한다.")
+    @Test
+    void findDistanceBetweenStations() {
+        // given
+        Long stationLineId = getCreatedLocationId(
+                지하철_노선_생성_요청_검증_포함(new StationLineRequest("가산선", "bg-red-600", 역(1), 역(2), 10)));
+        지하철_구간_생성요청_상태코드_검증_포함(stationLineId, 지하철_구간(역(2), 역(3), 7));
+        지하철_구간_생성요청_상태코드_검증_포함(stationLineId, 지하철_구간(역(3), 역(4), 5));
+
+        // when
+        ExtractableResponse<Response> 거리_조회_응답 = 지하철_노선_구간_거리_조회_요청(stationLineId, 역(2), 역(4));
+        ExtractableResponse<Response> 역방향_거리_조회_응답 = 지하철_노선_구간_거리_조회_요청(stationLineId, 역(4), 역(1));
+        ExtractableResponse<Response> 실패하는_조회_응답 = 지하철_노선_구간_거리_조회_요청(stationLineId, 역(1), 역(5));
+
+        // then
+        assertThat(거리_조회_응답.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(거리_조회_응답.jsonPath().getInt("distance")).isEqualTo(12);
+        assertThat(역방향_거리_조회_응답.jsonPath().getInt("distance")).isEqualTo(22);
+        assertThat(실패하는_조회_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * 초기에 생성한 지하철역 중 주어진 순번(1부터 시작)의 지하철역 ID 반환
+     */
+    private Long 역(int 순번) {
+        return 역_ID_목록.get(순번 - 1);
+    }
+
     private List<StationLineResponse> convertStationLineResponses(JsonPath jsonPath) {
         List<Long> ids = jsonPath.getList(ID_KEY, Long.class);
         List<String> names = jsonPath.getList(NAME_KEY, String.class);
@@ -30,9 +30,25 @@ import static utils.HttpResponseUtils.getCreatedLocationId;
 @AcceptanceTest
 public class StationSectionAcceptanceTest {
 
+    private List<Long> 역_ID_목록;
+
     @BeforeEach
     void 초기_지하철_역_설정() {
-        지하철_역_생성_요청(역_10개);
+        역_ID_목록 = 지하철_역_생성_요청(역_10개);
+    }
+
+    /**
+     * 초기에 생성한 지하철역 중 주어진 순번(1부터 시작)의 지하철역 ID 반환
+     */
+    private Long 역(int 순번) {
+        return 역_ID_목록.get(순번 - 1);
+    }
+
+    /**
+     * 초기에 생성한 지하철역 이후의 ID, 등록되지 않은 역
+     */
+    private Long 등록되지_않은_역() {
+        return 역(역_ID_목록.size()) + 1;
     }
 
     @Nested
@@ -47,11 +63,11 @@ public class StationSectionAcceptanceTest {
         void 상행역이_존재하지_않는_역일_경우(Long upStationId) {
             // given
             ExtractableResponse<Response> response =
-                    지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 2L));
+                    지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(2)));
 
             // when
             ExtractableResponse<Response> 실패하는_생성요청_응답 =
-                    지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(upStationId, 2L, 10));
+                    지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(upStationId, 역(2), 10));
 
             // then
             assertThat(실패하는_생성요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
@@ -67,11 +83,11 @@ public class StationSectionAcceptanceTest {
         void 하행역이_존재하지_않는_역일_경우(Long downStationId) {
             // given
             ExtractableResponse<Response> response =
-                    지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 2L));
+                    지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(2)));
 
             // when
             ExtractableResponse<Response> 실패하는_생성요청_응답 =
-                    지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(1L, downStationId, 10));
+                    지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(역(1), downStationId, 10));
 
             // then
             assertThat(실패하는_생성요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
@@ -88,11 +104,11 @@ public class StationSectionAcceptanceTest {
         void 거리가_1보다_작은_숫자일_경우(int distance) {
             // given
             ExtractableResponse<Response> response =
-                    지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 2L));
+                    지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(2)));
 
             // when
             ExtractableResponse<Response> 실패하는_생성요청_응답 =
-                    지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(1L, 2L, distance));
+                    지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(역(1), 역(2), distance));
 
             // then
             assertThat(실패하는_생성요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
@@ -116,11 +132,11 @@ public class StationSectionAcceptanceTest {
             void 상행역이_하행_종점역으로_등록되어_있고_하행역이_구간으로_등록되지_않은_역일_경우_등록_성공() {
                 // given
                 ExtractableResponse<Response> response =
-                        지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 2L));
+                        지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(2)));
 
                 // when
                 ExtractableResponse<Response> 성공하는_생성요청_응답 =
-                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(2L, 4L, 10));
+                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(역(2), 역(4), 10));
 
                 // then
                 assertThat(성공하는_생성요청_응답.statusCode()).isEqualTo(HttpStatus.CREATED.value());
@@ -140,10 +156,10 @@ public class StationSectionAcceptanceTest {
             void 상행역이_하행_종점역으로_등록되어_있지_않을_경우_등록_실패() {
                 // given
                 ExtractableResponse<Response> response =
-                        지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 4L));
+                        지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(4)));
 
                 ExtractableResponse<Response> 실패하는_생성요청_응답 =
-                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(5L, 10L, 10));
+                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(역(5), 역(10), 10));
 
                 // then
                 assertThat(실패하는_생성요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
@@ -159,11 +175,11 @@ public class StationSectionAcceptanceTest {
             void 상행역이_역_등록되어_있지_않은_경우_등록_실패() {
                 // given
                 ExtractableResponse<Response> response =
-                        지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 10L));
+                        지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(10)));
 
-                // when, 최초 10개의 역 생성(@BeforeEach)
+                // when
                 ExtractableResponse<Response> 실패하는_생성요청_응답 =
-                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(11L, 3L, 10));
+                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(등록되지_않은_역(), 역(3), 10));
 
                 // then
                 assertThat(실패하는_생성요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
@@ -179,12 +195,12 @@ public class StationSectionAcceptanceTest {
             void 상행역이_이미_구간에_등록되어_있는_경우_등록_실패() {
                 // given
                 ExtractableResponse<Response> response =
-                        지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 2L));
-                지하철_구간_생성요청_상태코드_검증_포함(getCreatedLocationId(response), 지하철_구간(2L, 3L, 10));
+                        지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(2)));
+                지하철_구간_생성요청_상태코드_검증_포함(getCreatedLocationId(response), 지하철_구간(역(2), 역(3), 10));
 
                 // when
                 ExtractableResponse<Response> 실패하는_생성요청_응답 =
-                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(2L, 4L, 10));
+                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(역(2), 역(4), 10));
 
                 // then
                 assertThat(실패하는_생성요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
@@ -204,11 +220,11 @@ public class StationSectionAcceptanceTest {
             void 하행역이_이미_하행_종점역으로_등록되어_있는_경우_등록_실패() {
                 // given
                 ExtractableResponse<Response> response =
-                        지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 4L));
+                        지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(4)));
 
                 // when
                 ExtractableResponse<Response> 실패하는_생성요청_응답 =
-                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(4L, 4L, 10));
+                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(역(4), 역(4), 10));
 
                 // then
                 assertThat(실패하는_생성요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
@@ -224,11 +240,11 @@ public class StationSectionAcceptanceTest {
             void 하행역이_역으로_등록되어_있지_않은_경우_등록_실패() {
                 // given
                 ExtractableResponse<Response> response =
-                        지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 10L));
+                        지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(10)));
 
-                // when, 최초 10개의 역 생성(@BeforeEach)
+                // when
                 ExtractableResponse<Response> 실패하는_생성요청_응답 =
-                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(10L, 11L, 10));
+                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(역(10), 등록되지_않은_역(), 10));
 
                 // then
                 assertThat(실패하는_생성요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
@@ -244,12 +260,12 @@ public class StationSectionAcceptanceTest {
             void 하행역이_이미_구간에_등록되어_있는_경우_등록_실패() {
                 // given
                 ExtractableResponse<Response> response =
-                        지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 2L));
-                지하철_구간_생성요청_상태코드_검증_포함(getCreatedLocationId(response), 지하철_구간(2L, 3L, 10));
+                        지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(2)));
+                지하철_구간_생성요청_상태코드_검증_포함(getCreatedLocationId(response), 지하철_구간(역(2), 역(3), 10));
 
                 // when
                 ExtractableResponse<Response> 실패하는_생성요청_응답 =
-                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(3L, 2L, 10));
+                        지하철_구간_생성요청_검증_생략(getCreatedLocationId(response), 지하철_구간(역(3), 역(2), 10));
 
                 // then
                 assertThat(실패하는_생성요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
@@ -257,6 +273,54 @@ public class StationSectionAcceptanceTest {
         }
     }
 
+    @Nested
+    class 구간_일괄_생성 {
+
+        /**
+         * Given 지하철 노선이 생성되고
+         * When  하행 종점역부터 순서대로 이어지는 구간들을 한 번에 생성하면
+         * Then  모든 구간이 등록되고, 노선 조회 시 순서대로 역을 찾을 수 있다.
+         */
+        @Test
+        void 순서대로_이어지는_구간들을_한번에_등록_성공() {
+            // given
+            ExtractableResponse<Response> response =
+                    지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(2)));
+
+            // when
+            ExtractableResponse<Response> 성공하는_일괄_생성요청_응답 =
+                    지하철_구간_일괄_생성요청_검증_생략(getCreatedLocationId(response),
+                            List.of(지하철_구간(역(2), 역(3), 10), 지하철_구간(역(3), 역(4), 10), 지하철_구간(역(4), 역(5), 10)));
+
+            // then
+            assertThat(성공하는_일괄_생성요청_응답.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+            assertThat(지하철_노선_조회_요청(getCreatedLocationId(response)).getList("stations.id", Long.class))
+                    .isEqualTo(List.of(역(1), 역(2), 역(3), 역(4), 역(5)));
+        }
+
+        /**
+         * Given 지하철 노선이 생성되고
+         * When  중간에 이어지지 않는 구간이 포함된 구간들을 한 번에 생성하면
+         * Then  구간 등록에 실패하고, 어떤 구간도 등록되지 않는다.
+         */
+        @Test
+        void 이어지지_않는_구간이_포함된_경우_모든_구간_등록_실패() {
+            // given
+            ExtractableResponse<Response> response =
+                    지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(2)));
+
+            // when
+            ExtractableResponse<Response> 실패하는_일괄_생성요청_응답 =
+                    지하철_구간_일괄_생성요청_검증_생략(getCreatedLocationId(response),
+                            List.of(지하철_구간(역(2), 역(3), 10), 지하철_구간(역(4), 역(5), 10)));
+
+            // then
+            assertThat(실패하는_일괄_생성요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+            assertThat(지하철_노선_조회_요청(getCreatedLocationId(response)).getList("stations.id", Long.class))
+                    .isEqualTo(List.of(역(1), 역(2)));
+        }
+    }
+
     @Nested
     class 구간_삭제 {
 
@@ -270,8 +334,8 @@ public class StationSectionAcceptanceTest {
         void 구간이_한개_이상_존재하고_하행_종점역이_포함된_구간을_삭제하는_경우_삭제_성공() {
             // given
             ExtractableResponse<Response> response =
-                    지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 2L));
-            StationSectionRequest 생성할_지하철_구간 = 지하철_구간(2L, 4L, 10);
+                    지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(2)));
+            StationSectionRequest 생성할_지하철_구간 = 지하철_구간(역(2), 역(4), 10);
             지하철_구간_생성요청_상태코드_검증_포함(getCreatedLocationId(response), 생성할_지하철_구간);
 
             // then
@@ -281,7 +345,7 @@ public class StationSectionAcceptanceTest {
             // then
             assertThat(성공하는_삭제요청_응답.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
             assertThat(convertStationIds(지하철_노선_조회_요청(getCreatedLocationId(response))))
-                    .isEqualTo(List.of(1L, 2L));
+                    .isEqualTo(List.of(역(1), 역(2)));
 
         }
 
@@ -294,7 +358,7 @@ public class StationSectionAcceptanceTest {
         @Test
         void 한개의_구간만_존재할_경우_삭제_실패() {
             // given
-            StationLineRequest 호남선 = 호남선_생성(1L, 2L);
+            StationLineRequest 호남선 = 호남선_생성(역(1), 역(2));
             ExtractableResponse<Response> response = 지하철_노선_생성_요청_검증_포함(호남선);
 
             // then
@@ -304,7 +368,7 @@ public class StationSectionAcceptanceTest {
             // then
             assertThat(성공하는_삭제요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
             assertThat(convertStationIds(지하철_노선_조회_요청(getCreatedLocationId(response))))
-                    .isEqualTo(List.of(1L, 2L));
+                    .isEqualTo(List.of(역(1), 역(2)));
         }
 
         /**
@@ -317,8 +381,8 @@ public class StationSectionAcceptanceTest {
         void 하행_종점역을_제거하는_것이_아닌_경우_삭제_실패() {
             // given
             ExtractableResponse<Response> response =
-                    지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 2L));
-            StationSectionRequest 생성할_지하철_구간 = 지하철_구간(2L, 4L, 10);
+                    지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(2)));
+            StationSectionRequest 생성할_지하철_구간 = 지하철_구간(역(2), 역(4), 10);
             지하철_구간_생성요청_상태코드_검증_포함(getCreatedLocationId(response), 생성할_지하철_구간);
 
             // then
@@ -328,7 +392,7 @@ public class StationSectionAcceptanceTest {
             // then
             assertThat(성공하는_삭제요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
             assertThat(convertStationIds(지하철_노선_조회_요청(getCreatedLocationId(response))))
-                    .isEqualTo(List.of(1L, 2L, 4L));
+                    .isEqualTo(List.of(역(1), 역(2), 역(4)));
         }
 
         /**
@@ -341,9 +405,9 @@ public class StationSectionAcceptanceTest {
         void 존재하지_않는_역을_제거하는_경우_삭제_실패() {
             // given
             ExtractableResponse<Response> response =
-                    지하철_노선_생성_요청_검증_포함(호남선_생성(1L, 2L));
+                    지하철_노선_생성_요청_검증_포함(호남선_생성(역(1), 역(2)));
 
-            StationSectionRequest 생성할_지하철_구간 = 지하철_구간(2L, 4L, 10);
+            StationSectionRequest 생성할_지하철_구간 = 지하철_구간(역(2), 역(4), 10);
             지하철_구간_생성요청_상태코드_검증_포함(getCreatedLocationId(response), 생성할_지하철_구간);
 
             // then
@@ -353,7 +417,7 @@ public class StationSectionAcceptanceTest {
             // then
             assertThat(성공하는_삭제요청_응답.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
             assertThat(convertStationIds(지하철_노선_조회_요청(getCreatedLocationId(response))))
-                    .isEqualTo(List.of(1L, 2L, 4L));
+                    .isEqualTo(List.of(역(1), 역(2), 역(4)));
         }
 
         private List<Long> convertStationIds(JsonPath jsonPath) {
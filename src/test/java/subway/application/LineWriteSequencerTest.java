@@ -0,0 +1,73 @@
+package subway.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선별 쓰기 순차 실행")
+public class LineWriteSequencerTest {
+
+    /**
+     * Given 순차 실행 모드가 활성화되고
+     * When  같은 노선에 대한 쓰기 작업을 여러 스레드에서 동시에 실행하면
+     * Then  동시에 실행되는 작업은 항상 하나이고, 스트라이프별 대기 시간이 기록된다.
+     */
+    @Test
+    void 같은_노선의_쓰기는_하나씩_실행된다() throws Exception {
+        // given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LineWriteSequencer sequencer = new LineWriteSequencer(meterRegistry, true, 4);
+        AtomicInteger 실행_중인_작업_수 = new AtomicInteger();
+        AtomicInteger 최대_동시_실행_수 = new AtomicInteger();
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            futures.add(executor.submit(() -> sequencer.run(1L, () -> {
+                최대_동시_실행_수.accumulateAndGet(실행_중인_작업_수.incrementAndGet(), Math::max);
+                Thread.yield();
+                실행_중인_작업_수.decrementAndGet();
+            })));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(최대_동시_실행_수).hasValue(1);
+        assertThat(meterRegistry.get(LineWriteSequencer.WAIT_METRIC)
+                .tag("stripe", String.valueOf(sequencer.stripeOf(1L)))
+                .timer().count()).isEqualTo(32);
+    }
+
+    /**
+     * Given 순차 실행 모드가 비활성화되고
+     * When  쓰기 작업을 실행하면
+     * Then  작업이 바로 실행되고, 스트라이프 메트릭은 등록되지 않는다.
+     */
+    @Test
+    void 비활성화된_경우_바로_실행된다() {
+        // given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LineWriteSequencer sequencer = new LineWriteSequencer(meterRegistry, false, 4);
+
+        // when
+        String 결과 = sequencer.execute(1L, () -> "실행");
+
+        // then
+        assertThat(결과).isEqualTo("실행");
+        assertThat(meterRegistry.find(LineWriteSequencer.QUEUE_METRIC).gauges()).isEmpty();
+    }
+}
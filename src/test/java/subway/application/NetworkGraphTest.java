@@ -0,0 +1,194 @@
+package subway.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선도 그래프")
+public class NetworkGraphTest {
+
+    private static final Map<Long, String> 역_이름 = Map.of(
+            1L, "신사", 2L, "논현", 3L, "신논현", 4L, "강남", 5L, "양재");
+
+    /**
+     * Given 1-2-3 (거리 10, 10)과 1-4-3 (거리 3, 3) 두 경로로 연결된 그래프가 주어지고
+     * When  1번 역에서 3번 역까지의 최단 경로를 탐색하면
+     * Then  거리가 더 짧은 1-4-3 경로와 총 거리 6이 반환된다.
+     */
+    @Test
+    void 두_경로_중_거리가_짧은_경로를_찾는다() {
+        // given
+        NetworkGraph 그래프 = NetworkGraph.of(
+                new long[]{1L, 2L, 1L, 4L}, new long[]{2L, 3L, 4L, 3L}, new int[]{10, 10, 3, 3}, 역_이름);
+
+        // when
+        NetworkPath 경로 = 그래프.findShortestPath(1L, 3L).orElseThrow();
+
+        // then
+        assertThat(경로.getStationCount()).isEqualTo(3);
+        assertThat(new long[]{경로.getStationId(0), 경로.getStationId(1), 경로.getStationId(2)})
+                .containsExactly(1L, 4L, 3L);
+        assertThat(경로.getStationName(1)).isEqualTo("강남");
+        assertThat(경로.getDistance()).isEqualTo(6L);
+    }
+
+    /**
+     * Given 1-2-3-4-5로 이어진 그래프와 1-4 구간만 있는 그래프가 주어지고
+     * When  같은 스레드에서 두 그래프의 경로를 번갈아 탐색하면
+     * Then  이전 탐색에서 기록한 거리나 경로가 다음 탐색 결과에 섞이지 않는다.
+     */
+    @Test
+    void 이전_탐색의_결과가_다음_탐색에_남지_않는다() {
+        // given
+        NetworkGraph 긴_그래프 = NetworkGraph.of(new long[]{1L, 2L, 3L, 4L}, new long[]{2L, 3L, 4L, 5L},
+                new int[]{1, 1, 1, 1}, 역_이름);
+        NetworkGraph 짧은_그래프 = NetworkGraph.of(new long[]{1L}, new long[]{4L}, new int[]{7}, 역_이름);
+
+        // when
+        NetworkPath 첫_번째_경로 = 긴_그래프.findShortestPath(1L, 5L).orElseThrow();
+        NetworkPath 두_번째_경로 = 짧은_그래프.findShortestPath(4L, 1L).orElseThrow();
+        NetworkPath 세_번째_경로 = 긴_그래프.findShortestPath(5L, 2L).orElseThrow();
+
+        // then
+        assertThat(첫_번째_경로.getDistance()).isEqualTo(4L);
+        assertThat(두_번째_경로.getStationCount()).isEqualTo(2);
+        assertThat(두_번째_경로.getDistance()).isEqualTo(7L);
+        assertThat(세_번째_경로.getStationCount()).isEqualTo(4);
+        assertThat(세_번째_경로.getDistance()).isEqualTo(3L);
+    }
+
+    /**
+     * Given 상행역 → 하행역 방향으로만 등록된 구간이 주어지고
+     * When  하행역에서 상행역 방향으로 경로를 탐색하면
+     * Then  구간은 양방향이므로 경로가 반환된다.
+     */
+    @Test
+    void 구간은_양방향으로_이동할_수_있다() {
+        // given
+        NetworkGraph 그래프 = NetworkGraph.of(new long[]{1L, 2L}, new long[]{2L, 3L}, new int[]{4, 5}, 역_이름);
+
+        // when
+        Optional<NetworkPath> 경로 = 그래프.findShortestPath(3L, 1L);
+
+        // then
+        assertThat(경로).hasValueSatisfying(path -> assertThat(path.getDistance()).isEqualTo(9L));
+    }
+
+    /**
+     * Given 서로 연결되지 않은 두 구간이 주어지고
+     * When  연결되지 않은 역 사이의 경로를 탐색하거나, 그래프에 없는 역으로 탐색하면
+     * Then  경로가 반환되지 않는다.
+     */
+    @Test
+    void 연결되지_않은_역_사이에는_경로가_없다() {
+        // given
+        NetworkGraph 그래프 = NetworkGraph.of(new long[]{1L, 4L}, new long[]{2L, 5L}, new int[]{4, 5}, 역_이름);
+
+        // when & then
+        assertThat(그래프.findShortestPath(1L, 5L)).isEmpty();
+        assertThat(그래프.findShortestPath(1L, 3L)).isEmpty();
+    }
+
+    /**
+     * Given 1-2 구간만 있는 그래프가 주어지고
+     * When  2-3 구간을 추가한 새 그래프를 만들면
+     * Then  새 그래프에서는 1번 역에서 3번 역까지 이동할 수 있고 버전이 1 증가하며, 기존 그래프는 변경되지 않는다.
+     */
+    @Test
+    void 구간이_추가된_새_그래프를_만든다() {
+        // given
+        NetworkGraph 그래프 = NetworkGraph.of(new long[]{1L}, new long[]{2L}, new int[]{4}, 역_이름);
+
+        // when
+        NetworkGraph 변경된_그래프 = 그래프.withChanges(
+                List.of(new NetworkEdge(2L, 3L, 5)), List.of(), Map.of(3L, "신논현"));
+
+        // then
+        assertThat(변경된_그래프.findShortestPath(1L, 3L))
+                .hasValueSatisfying(path -> assertThat(path.getDistance()).isEqualTo(9L));
+        assertThat(변경된_그래프.getVersion()).isEqualTo(그래프.getVersion() + 1);
+        assertThat(그래프.contains(3L)).isFalse();
+    }
+
+    /**
+     * Given 1-2-3 구간이 있는 그래프가 주어지고
+     * When  2-3 구간을 삭제한 새 그래프를 만들면
+     * Then  더 이상 구간이 없는 3번 역은 그래프에서 제거되고, 1-2 구간은 유지된다.
+     */
+    @Test
+    void 구간이_삭제된_새_그래프를_만든다() {
+        // given
+        NetworkGraph 그래프 = NetworkGraph.of(new long[]{1L, 2L}, new long[]{2L, 3L}, new int[]{4, 5}, 역_이름);
+
+        // when
+        NetworkGraph 변경된_그래프 = 그래프.withChanges(List.of(), List.of(new NetworkEdge(2L, 3L, 5)), Map.of());
+
+        // then
+        assertThat(변경된_그래프.contains(3L)).isFalse();
+        assertThat(변경된_그래프.getStationCount()).isEqualTo(2);
+        assertThat(변경된_그래프.findShortestPath(2L, 1L))
+                .hasValueSatisfying(path -> assertThat(path.getDistance()).isEqualTo(4L));
+    }
+
+    /**
+     * Given 1-2 구간이 두 노선에 같은 거리로 등록된 그래프가 주어지고
+     * When  그 중 한 구간만 삭제하면
+     * Then  나머지 한 구간으로 여전히 이동할 수 있다.
+     */
+    @Test
+    void 같은_구간이_여러_개면_하나만_삭제한다() {
+        // given
+        NetworkGraph 그래프 = NetworkGraph.of(new long[]{1L, 1L}, new long[]{2L, 2L}, new int[]{4, 4}, 역_이름);
+
+        // when
+        NetworkGraph 변경된_그래프 = 그래프.withChanges(List.of(), List.of(new NetworkEdge(1L, 2L, 4)), Map.of());
+
+        // then
+        assertThat(변경된_그래프.findShortestPath(1L, 2L))
+                .hasValueSatisfying(path -> assertThat(path.getDistance()).isEqualTo(4L));
+    }
+
+    /**
+     * Given 1-2, 4-5 처럼 서로 연결되지 않은 두 구간이 주어지고
+     * When  연결 여부와 역 묶음을 조회하면
+     * Then  같은 묶음의 역끼리만 도달할 수 있고, 두 개의 역 묶음이 반환된다.
+     */
+    @Test
+    void 서로_오갈_수_있는_역끼리_묶는다() {
+        // given
+        NetworkGraph 그래프 = NetworkGraph.of(new long[]{1L, 4L}, new long[]{2L, 5L}, new int[]{4, 5}, 역_이름);
+
+        // when & then
+        assertThat(그래프.isReachable(2L, 1L)).isTrue();
+        assertThat(그래프.isReachable(1L, 5L)).isFalse();
+        assertThat(그래프.isReachable(1L, 3L)).isFalse();
+        assertThat(그래프.findComponentStationIds())
+                .containsExactly(new long[]{1L, 2L}, new long[]{4L, 5L});
+    }
+
+    /**
+     * Given 1-2, 3-4 구간의 연결 요소가 계산된 그래프가 주어지고
+     * When  2-3 구간을 추가한 뒤 다시 삭제하면
+     * Then  추가 후에는 1번 역에서 4번 역에 도달할 수 있고, 삭제 후에는 다시 도달할 수 없다.
+     */
+    @Test
+    void 구간_추가와_삭제에_따라_연결_여부가_바뀐다() {
+        // given
+        NetworkGraph 그래프 = NetworkGraph.of(new long[]{1L, 3L}, new long[]{2L, 4L}, new int[]{4, 5}, 역_이름);
+        assertThat(그래프.isReachable(1L, 4L)).isFalse();
+
+        // when
+        NetworkGraph 추가된_그래프 = 그래프.withChanges(List.of(new NetworkEdge(2L, 3L, 3)), List.of(), Map.of());
+        NetworkGraph 삭제된_그래프 = 추가된_그래프.withChanges(List.of(), List.of(new NetworkEdge(2L, 3L, 3)), Map.of());
+
+        // then
+        assertThat(추가된_그래프.isReachable(1L, 4L)).isTrue();
+        assertThat(삭제된_그래프.isReachable(1L, 4L)).isFalse();
+        assertThat(삭제된_그래프.isReachable(3L, 4L)).isTrue();
+    }
+}
@@ -0,0 +1,75 @@
+package subway.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("낙관적 락 충돌 재시도")
+public class OptimisticLockRetrierTest {
+
+    private MeterRegistry meterRegistry;
+
+    private OptimisticLockRetrier retrier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retrier = new OptimisticLockRetrier(meterRegistry, 3, Duration.ZERO);
+    }
+
+    /**
+     * Given 처음 두 번의 시도에서 충돌하는 작업이 주어지고
+     * When  작업을 실행하면
+     * Then  세 번째 시도의 결과가 반환되고, 충돌 횟수는 2로 기록된다.
+     */
+    @Test
+    void 충돌_후_재시도에_성공하면_결과를_반환한다() {
+        // given
+        AtomicInteger 시도_횟수 = new AtomicInteger();
+
+        // when
+        String 결과 = retrier.execute("test", () -> {
+            if (시도_횟수.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "성공";
+        });
+
+        // then
+        assertThat(결과).isEqualTo("성공");
+        assertThat(meterRegistry.counter(OptimisticLockRetrier.ATTEMPTS_METRIC, "operation", "test").count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.counter(OptimisticLockRetrier.CONFLICTS_METRIC, "operation", "test").count())
+                .isEqualTo(2);
+    }
+
+    /**
+     * Given 매번 충돌하는 작업이 주어지고
+     * When  작업을 실행하면
+     * Then  최대 시도 횟수 이후 충돌 예외가 전달되고, 재시도 소진 횟수가 기록된다.
+     */
+    @Test
+    void 최대_시도_횟수만큼_충돌하면_예외가_전달된다() {
+        // given
+        AtomicInteger 시도_횟수 = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> retrier.run("test", () -> {
+            시도_횟수.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(시도_횟수).hasValue(3);
+        assertThat(meterRegistry.counter(OptimisticLockRetrier.EXHAUSTED_METRIC, "operation", "test").count())
+                .isEqualTo(1);
+    }
+}
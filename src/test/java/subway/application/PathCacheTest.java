@@ -0,0 +1,62 @@
+package subway.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("최단 경로 캐시")
+public class PathCacheTest {
+
+    private MeterRegistry meterRegistry;
+
+    private PathCache pathCache;
+
+    private NetworkGraph 그래프;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pathCache = new PathCache(meterRegistry, 100);
+        그래프 = NetworkGraph.of(new long[]{1L, 2L}, new long[]{2L, 3L}, new int[]{4, 5},
+                Map.of(1L, "신사", 2L, "논현", 3L, "신논현"));
+    }
+
+    /**
+     * Given 같은 버전의 그래프가 주어지고
+     * When  같은 출발역과 도착역으로 두 번 조회하면
+     * Then  경로 탐색은 한 번만 실행된다.
+     */
+    @Test
+    void 같은_버전의_같은_경로는_한_번만_탐색한다() {
+        // when
+        NetworkPath 첫_번째_경로 = pathCache.findShortestPath(그래프, 1L, 3L).orElseThrow();
+        NetworkPath 두_번째_경로 = pathCache.findShortestPath(그래프, 1L, 3L).orElseThrow();
+
+        // then
+        assertThat(두_번째_경로).isSameAs(첫_번째_경로);
+        assertThat(meterRegistry.timer(PathCache.COMPUTE_METRIC).count()).isEqualTo(1);
+    }
+
+    /**
+     * Given 경로를 한 번 조회한 뒤
+     * When  버전이 증가한 그래프로 같은 경로를 조회하면
+     * Then  이전 결과를 사용하지 않고 다시 탐색한다.
+     */
+    @Test
+    void 그래프_버전이_바뀌면_다시_탐색한다() {
+        // given
+        pathCache.findShortestPath(그래프, 1L, 3L);
+
+        // when
+        pathCache.findShortestPath(그래프.withVersion(그래프.getVersion() + 1), 1L, 3L);
+
+        // then
+        assertThat(meterRegistry.timer(PathCache.COMPUTE_METRIC).count()).isEqualTo(2);
+    }
+}
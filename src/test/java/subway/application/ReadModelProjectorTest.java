@@ -0,0 +1,133 @@
+package subway.application;
+
+import config.listeners.ReadModelCleanupListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+import subway.config.ProjectionExecutorConfig;
+import subway.dto.StationLineRequest;
+import subway.dto.StationRequest;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("조회 모델 비동기 갱신")
+@SpringBootTest
+@Sql(value = "/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@TestExecutionListeners(listeners = ReadModelCleanupListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+public class ReadModelProjectorTest {
+
+    @Autowired
+    private StationService stationService;
+
+    @Autowired
+    private StationLineService stationLineService;
+
+    @Autowired
+    private LiveStationIds liveStationIds;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier(ProjectionExecutorConfig.PROJECTION_EXECUTOR)
+    private ThreadPoolTaskExecutor projectionExecutor;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    /**
+     * Given 조회 모델 실행기의 모든 스레드가 다른 작업을 처리하는 중이고
+     * When  지하철 노선을 생성하면
+     * Then  갱신 작업이 대기열에 쌓여 대기 작업 수 메트릭이 증가한다.
+     * When  실행기가 다시 비면
+     * Then  대기 작업 수는 0이 되고, 처리한 갱신 작업만큼 지연 시간이 기록된다.
+     */
+    @Test
+    void 쓰기_이후_대기_작업_수와_갱신_지연_시간이_기록된다() throws InterruptedException {
+        // given
+        long 이전_갱신_횟수 = meterRegistry.get(ProjectionExecutorConfig.LAG_METRIC).timer().count();
+        CountDownLatch 실행기_해제 = new CountDownLatch(1);
+        실행기_점유(실행기_해제);
+
+        // when
+        try {
+            지하철_노선_생성();
+
+            // then
+            assertThat(대기_작업_수()).isGreaterThanOrEqualTo(1);
+        } finally {
+            실행기_해제.countDown();
+        }
+
+        // when
+        ReadModelCleanupListener.awaitProjections(applicationContext);
+
+        // then
+        assertThat(대기_작업_수()).isZero();
+        assertThat(meterRegistry.get(ProjectionExecutorConfig.LAG_METRIC).timer().count())
+                .isGreaterThan(이전_갱신_횟수 + projectionExecutor.getCorePoolSize());
+    }
+
+    /**
+     * Given 지하철역 2개를 생성하고
+     * When  그 중 하나를 삭제한 뒤 조회 모델 갱신이 끝나면
+     * Then  삭제한 역은 존재하지 않는 역으로 걸러지고, 남은 역은 걸러지지 않는다.
+     */
+    @Test
+    void 삭제된_지하철역은_갱신이_끝나면_걸러진다() {
+        // given
+        Long 삭제할_역 = stationService.createStation(new StationRequest("가산디지털단지역")).getId();
+        Long 남은_역 = stationService.createStation(new StationRequest("구로디지털단지역")).getId();
+        assertThat(liveStationIds.mightContainAll(List.of(삭제할_역, 남은_역))).isTrue();
+
+        // when
+        stationService.deleteStationById(삭제할_역);
+        ReadModelCleanupListener.awaitProjections(applicationContext);
+
+        // then
+        assertThat(liveStationIds.mightContainAll(List.of(삭제할_역))).isFalse();
+        assertThat(liveStationIds.mightContainAll(List.of(남은_역))).isTrue();
+    }
+
+    /**
+     * 실행기의 모든 스레드가 해제될 때까지 대기하는 작업을 실행하고, 모든 스레드가 작업을 시작할 때까지 대기
+     */
+    private void 실행기_점유(CountDownLatch 실행기_해제) throws InterruptedException {
+        int 스레드_수 = projectionExecutor.getCorePoolSize();
+        CountDownLatch 점유_시작 = new CountDownLatch(스레드_수);
+        for (int i = 0; i < 스레드_수; i++) {
+            projectionExecutor.execute(() -> {
+                점유_시작.countDown();
+                try {
+                    실행기_해제.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertThat(점유_시작.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private double 대기_작업_수() {
+        return meterRegistry.get(ProjectionExecutorConfig.BACKLOG_METRIC).gauge().value();
+    }
+
+    private void 지하철_노선_생성() {
+        Long upStationId = stationService.createStation(new StationRequest("상행역")).getId();
+        Long downStationId = stationService.createStation(new StationRequest("하행역")).getId();
+        stationLineService.createStationLine(
+                new StationLineRequest("노선", "bg-red-600", upStationId, downStationId, 10));
+    }
+}
@@ -0,0 +1,112 @@
+package subway.application;
+
+import config.listeners.ReadModelCleanupListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.jdbc.Sql;
+import subway.dto.StationLineRequest;
+import subway.dto.StationRequest;
+import subway.dto.StationSectionRequest;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 노선 조회 쿼리")
+@SpringBootTest
+@Sql(value = "/clean.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+@TestExecutionListeners(listeners = ReadModelCleanupListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+public class StationLineServiceTest {
+
+    @Autowired
+    private StationService stationService;
+
+    @Autowired
+    private StationLineService stationLineService;
+
+    @Autowired
+    private StationSectionService stationSectionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private StationLineSnapshots stationLineSnapshots;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void 쿼리_통계_설정() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * Given 구간이 2개인 지하철 노선을 2개 생성하고, 전체 노선을 조회한다.
+     * When  같은 형태의 노선을 8개 더 생성하고, 전체 노선을 다시 조회하면
+     * Then  실행된 쿼리 수는 노선이 2개일 때보다 늘어나지 않는다.
+     */
+    @Test
+    void 노선이_늘어나도_전체_노선_조회_쿼리_수는_일정하다() {
+        // given
+        지하철_노선_생성(2);
+        long 노선_2개_조회_쿼리_수 = 전체_노선_조회_쿼리_수();
+
+        // when
+        지하철_노선_생성(8);
+        long 노선_10개_조회_쿼리_수 = 전체_노선_조회_쿼리_수();
+
+        // then
+        assertThat(stationLineService.findAllStationLines()).hasSize(10);
+        assertThat(노선_10개_조회_쿼리_수).isLessThanOrEqualTo(노선_2개_조회_쿼리_수);
+    }
+
+    /**
+     * Given 구간이 2개인 지하철 노선을 생성하고
+     * When  노선 변경 이벤트의 비동기 처리가 끝나면
+     * Then  DB 조회 없이 사용할 수 있는 최신 스냅샷이 생성되어 있다.
+     */
+    @Test
+    void 노선이_변경되면_스냅샷이_비동기로_다시_생성된다() {
+        // given
+        지하철_노선_생성(1);
+
+        // when
+        ReadModelCleanupListener.awaitProjections(applicationContext);
+
+        // then
+        assertThat(stationLineSnapshots.find(1L))
+                .hasValueSatisfying(snapshot -> assertThat(snapshot.getStationCount()).isEqualTo(3));
+    }
+
+    private long 전체_노선_조회_쿼리_수() {
+        ReadModelCleanupListener.awaitProjections(applicationContext);
+        statistics.clear();
+        stationLineService.findAllStationLines();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void 지하철_노선_생성(int count) {
+        for (int i = 0; i < count; i++) {
+            Long upStationId = stationService.createStation(new StationRequest("상행역")).getId();
+            Long middleStationId = stationService.createStation(new StationRequest("중간역")).getId();
+            Long downStationId = stationService.createStation(new StationRequest("하행역")).getId();
+
+            Long stationLineId = stationLineService.createStationLine(
+                    new StationLineRequest("노선", "bg-red-600", upStationId, middleStationId, 10)).getId();
+            stationSectionService.createStationSection(
+                    new StationSectionRequest(middleStationId, downStationId, 10, stationLineId));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package subway.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.entity.Station;
+import subway.entity.StationLineDeletedEvent;
+import subway.entity.StationSectionAddedEvent;
+import subway.entity.StationSectionRemovedEvent;
+import subway.entity.StationSectionRepository;
+import subway.entity.StationSectionView;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("지하철 노선도 그래프")
+public class SubwayNetworkTest {
+
+    private static final Long 가산선 = 1L;
+
+    private final List<StationSectionView> 저장된_구간 = new ArrayList<>();
+
+    private final Set<Long> 이름이_없는_역 = new HashSet<>();
+
+    private SubwayNetwork subwayNetwork;
+
+    /**
+     * 1 --(10)-- 2  (가산선, 버전 1)
+     */
+    @BeforeEach
+    void setUp() {
+        StationSectionRepository stationSectionRepository = mock(StationSectionRepository.class);
+        given(stationSectionRepository.findAllViews()).willAnswer(invocation -> List.copyOf(저장된_구간));
+
+        StationCache stationCache = mock(StationCache.class);
+        given(stationCache.findAll(any())).willAnswer(invocation -> {
+            Map<Long, Station> stations = new HashMap<>();
+            for (Long stationId : invocation.<Iterable<Long>>getArgument(0)) {
+                if (!이름이_없는_역.contains(stationId)) {
+                    stations.put(stationId, 지하철역(stationId));
+                }
+            }
+            return stations;
+        });
+
+        subwayNetwork = new SubwayNetwork(stationSectionRepository, stationCache,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        저장된_구간.add(구간(가산선, 1L, 1L, 2L, 10));
+        subwayNetwork.afterSingletonsInstantiated();
+    }
+
+    /**
+     * Given 노선도가 주어지고
+     * When  구간 삭제 이벤트가 구간 추가 이벤트보다 먼저 도착하면
+     * Then  두 이벤트를 모두 처리한 뒤 그 구간은 그래프에 없다.
+     */
+    @Test
+    void 순서가_바뀌어_도착한_이벤트는_간선_수로_상쇄된다() {
+        // when
+        subwayNetwork.on(구간_삭제_이벤트(가산선, 3L, 2L, 3L, 10));
+        subwayNetwork.on(구간_추가_이벤트(가산선, 2L, 2L, 3L, 10));
+
+        // then
+        assertThat(subwayNetwork.getGraph().contains(3L)).isFalse();
+        assertThat(subwayNetwork.getGraph().findShortestPath(1L, 2L)).isPresent();
+    }
+
+    /**
+     * Given 노선도가 주어지고
+     * When  노선이 삭제된 뒤 그 노선의 구간 추가 이벤트가 늦게 도착하면
+     * Then  늦게 도착한 이벤트는 무시되고, 삭제된 노선의 구간은 그래프에 없다.
+     */
+    @Test
+    void 삭제된_노선의_늦게_도착한_이벤트는_무시된다() {
+        // when
+        subwayNetwork.on(new StationLineDeletedEvent(가산선));
+        subwayNetwork.on(구간_추가_이벤트(가산선, 2L, 2L, 3L, 10));
+
+        // then
+        assertThat(subwayNetwork.getGraph().getStationCount()).isZero();
+    }
+
+    /**
+     * Given 구간 추가 이벤트가 처리되기 전에 전체 구간으로 그래프를 다시 생성하고
+     * When  이미 반영된 구간 추가 이벤트와 이후의 구간 삭제 이벤트가 도착하면
+     * Then  구간이 한 번만 집계되어, 삭제 이후 그 구간은 그래프에 없다.
+     */
+    @Test
+    void 다시_생성한_그래프에_반영된_이벤트는_무시된다() {
+        // given
+        저장된_구간.add(구간(가산선, 2L, 2L, 3L, 10));
+        subwayNetwork.reload();
+
+        // when
+        subwayNetwork.on(구간_추가_이벤트(가산선, 2L, 2L, 3L, 10));
+        subwayNetwork.on(구간_삭제_이벤트(가산선, 3L, 2L, 3L, 10));
+
+        // then
+        assertThat(subwayNetwork.getGraph().contains(3L)).isFalse();
+        assertThat(subwayNetwork.getGraph().findShortestPath(1L, 2L)).isPresent();
+    }
+
+    /**
+     * Given 구간 삭제 이벤트가 처리되기 전에 전체 구간으로 그래프를 다시 생성하고
+     * When  이미 반영된 구간 삭제 이벤트와 이후에 같은 구간의 추가 이벤트가 도착하면
+     * Then  다시 추가된 구간이 그래프에 있다.
+     */
+    @Test
+    void 다시_생성한_그래프에_반영된_삭제_이벤트는_무시된다() {
+        // given
+        저장된_구간.clear();
+        저장된_구간.add(구간(가산선, 2L, 2L, 3L, 10));
+        subwayNetwork.reload();
+
+        // when
+        subwayNetwork.on(구간_삭제_이벤트(가산선, 2L, 1L, 2L, 10));
+        subwayNetwork.on(구간_추가_이벤트(가산선, 3L, 1L, 2L, 10));
+
+        // then
+        assertThat(subwayNetwork.getGraph().findShortestPath(1L, 3L))
+                .hasValueSatisfying(path -> assertThat(path.getDistance()).isEqualTo(20L));
+    }
+
+    /**
+     * Given 노선도가 주어지고
+     * When  이름을 찾을 수 없는 역의 구간 추가 이벤트가 도착하면
+     * Then  이벤트를 반영하지 못하고 전체 구간으로 그래프를 다시 생성한다.
+     */
+    @Test
+    void 반영하지_못한_이벤트는_전체_구간으로_다시_생성한다() {
+        // given
+        long 이전_버전 = subwayNetwork.getGraph().getVersion();
+        저장된_구간.add(구간(가산선, 2L, 2L, 3L, 10));
+        이름이_없는_역.add(4L);
+
+        // when
+        subwayNetwork.on(구간_추가_이벤트(가산선, 2L, 2L, 4L, 10));
+
+        // then
+        assertThat(subwayNetwork.getGraph().getVersion()).isGreaterThan(이전_버전);
+        assertThat(subwayNetwork.getGraph().contains(3L)).isTrue();
+        assertThat(subwayNetwork.getGraph().contains(4L)).isFalse();
+    }
+
+    private static Station 지하철역(Long stationId) {
+        Station station = mock(Station.class);
+        given(station.getId()).willReturn(stationId);
+        given(station.getName()).willReturn(stationId + "번역");
+        return station;
+    }
+
+    private static StationSectionAddedEvent 구간_추가_이벤트(Long stationLineId, Long stationLineVersion,
+                                                      Long upStationId, Long downStationId, int distance) {
+        StationSectionAddedEvent event = mock(StationSectionAddedEvent.class);
+        given(event.getStationLineId()).willReturn(stationLineId);
+        given(event.getStationLineVersion()).willReturn(stationLineVersion);
+        given(event.getUpStationId()).willReturn(upStationId);
+        given(event.getDownStationId()).willReturn(downStationId);
+        given(event.getDistance()).willReturn(distance);
+        return event;
+    }
+
+    private static StationSectionRemovedEvent 구간_삭제_이벤트(Long stationLineId, Long stationLineVersion,
+                                                        Long upStationId, Long downStationId, int distance) {
+        StationSectionRemovedEvent event = mock(StationSectionRemovedEvent.class);
+        given(event.getStationLineId()).willReturn(stationLineId);
+        given(event.getStationLineVersion()).willReturn(stationLineVersion);
+        given(event.getUpStationId()).willReturn(upStationId);
+        given(event.getDownStationId()).willReturn(downStationId);
+        given(event.getDistance()).willReturn(distance);
+        return event;
+    }
+
+    private static StationSectionView 구간(Long stationLineId, Long stationLineVersion,
+                                         Long upStationId, Long downStationId, int distance) {
+        return new StationSectionView() {
+            @Override
+            public Long getStationLineId() {
+                return stationLineId;
+            }
+
+            @Override
+            public Long getStationLineVersion() {
+                return stationLineVersion;
+            }
+
+            @Override
+            public Long getId() {
+                return null;
+            }
+
+            @Override
+            public Long getUpStationId() {
+                return upStationId;
+            }
+
+            @Override
+            public Long getDownStationId() {
+                return downStationId;
+            }
+
+            @Override
+            public int getDistance() {
+                return distance;
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package subway.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.servlet.http.Cookie;
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 두 개의 H2 인스턴스를 프라이머리/레플리카로 사용하며, 레플리카에만 존재하는 역으로 라우팅 대상을 확인한다.
+ */
+@DisplayName("프라이머리/레플리카 DataSource 라우팅")
+@SpringBootTest(properties = {
+        "subway.datasource.routing.enabled=true",
+        "subway.datasource.primary.jdbc-url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "subway.datasource.primary.username=sa",
+        "subway.datasource.replica.jdbc-url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "subway.datasource.replica.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureMockMvc
+public class ReplicationRoutingDataSourceTest {
+
+    private static final String REPLICA_ONLY_STATION = "레플리카역";
+
+    private static final String PRIMARY_STATION = "프라이머리역";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    void 레플리카_데이터_설정() {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("create table if not exists station (id bigint primary key, name varchar(20) not null)");
+        replica.update("delete from station");
+        replica.update("insert into station (id, name) values (1000, ?)", REPLICA_ONLY_STATION);
+    }
+
+    /**
+     * When 지하철역을 생성하고
+     * When 쿠키 없이 지하철역 목록을 조회하면
+     * Then 레플리카에서 조회된 역 목록을 응답받는다.
+     */
+    @Test
+    void 읽기_전용_트랜잭션은_레플리카로_라우팅된다() throws Exception {
+        // when
+        지하철역_생성_요청(PRIMARY_STATION);
+        String stations = 지하철역_목록_조회_요청().getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        assertThat(stations).contains(REPLICA_ONLY_STATION).doesNotContain(PRIMARY_STATION);
+    }
+
+    /**
+     * When 지하철역을 생성하고
+     * When 생성 응답의 마지막 쓰기 쿠키와 함께 지하철역 목록을 조회하면
+     * Then 프라이머리에서 조회된 역 목록을 응답받는다.
+     */
+    @Test
+    void 쓰기_직후_같은_세션의_읽기는_프라이머리로_라우팅된다() throws Exception {
+        // when
+        Cookie lastWriteCookie = 지하철역_생성_요청(PRIMARY_STATION)
+                .getCookie(ReadYourWritesFilter.LAST_WRITE_COOKIE_NAME);
+        String stations = 지하철역_목록_조회_요청(lastWriteCookie).getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        assertThat(lastWriteCookie).isNotNull();
+        assertThat(stations).contains(PRIMARY_STATION).doesNotContain(REPLICA_ONLY_STATION);
+    }
+
+    private MockHttpServletResponse 지하철역_생성_요청(String name) throws Exception {
+        return mockMvc.perform(post("/stations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"name\":\"%s\"}", name)))
+                .andReturn().getResponse();
+    }
+
+    private MockHttpServletResponse 지하철역_목록_조회_요청(Cookie... cookies) throws Exception {
+        if (cookies.length == 0) {
+            return mockMvc.perform(get("/stations")).andReturn().getResponse();
+        }
+        return mockMvc.perform(get("/stations").cookie(cookies)).andReturn().getResponse();
+    }
+}
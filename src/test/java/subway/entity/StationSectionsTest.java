@@ -4,6 +4,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("지하철 구간 엔티티")
@@ -117,6 +121,76 @@ public class StationSectionsTest {
         }
     }
 
+    @Nested
+    class 구간_삭제 {
+
+        /**
+         * Given 지하철 구간 목록에 3개의 구간이 추가되고
+         * When  마지막 구간을 삭제한 뒤 같은 상행역의 구간을 다시 추가하면
+         * Then  삭제된 구간의 역은 색인에서 제외되고, 새로 추가한 구간이 색인에 반영된다.
+         */
+        @Test
+        void 마지막_구간_삭제_후_재추가() {
+            // given
+            StationSections 구간_목록 = new StationSections();
+
+            구간_목록.addSection(new StationSection(1L, 2L, 3));
+            구간_목록.addSection(new StationSection(2L, 3L, 3));
+            구간_목록.addSection(new StationSection(3L, 4L, 3));
+
+            // when
+            구간_목록.deleteSection(4L);
+            구간_목록.addSection(new StationSection(3L, 5L, 3));
+
+            // then
+            assertThat(구간_목록.getStationIds()).containsExactly(1L, 2L, 3L, 5L);
+            assertThat(구간_목록.areAllUpStationsDifferentFrom(new StationSection(5L, 3L, 3))).isFalse();
+            assertThat(구간_목록.areAllUpStationsDifferentFrom(new StationSection(5L, 4L, 3))).isTrue();
+        }
+    }
+
+    @Nested
+    class 구간_연결_순서 {
+
+        /**
+         * Given 조회(JPA 로딩)로 지하철 구간 목록이 연결 순서와 다른 순서의 새 목록으로 채워지고
+         * When  지하철 구간 목록의 역 ID 목록과 양 끝 역을 조회하면
+         * Then  목록 순서와 관계없이 상행 종점부터 하행 종점까지 연결 순서대로 반환된다.
+         */
+        @Test
+        void 목록_순서와_관계없이_연결_순서대로_조회() {
+            // given
+            StationSections 구간_목록 = 조회된_구간_목록(new ArrayList<>(List.of(
+                    new StationSection(3L, 4L, 3),
+                    new StationSection(1L, 2L, 3),
+                    new StationSection(4L, 5L, 3),
+                    new StationSection(2L, 3L, 3))));
+
+            // when
+            List<Long> stationIds = 구간_목록.getStationIds();
+
+            // then
+            assertThat(stationIds).containsExactly(1L, 2L, 3L, 4L, 5L);
+            assertThat(구간_목록.findFirstUpStation()).isEqualTo(1L);
+            assertThat(구간_목록.findLastStationId()).isEqualTo(5L);
+        }
+
+        /**
+         * JPA 로딩과 같이 기본 생성자로 만든 뒤 구간 목록 필드를 새 목록으로 교체
+         */
+        private StationSections 조회된_구간_목록(List<StationSection> sections) {
+            StationSections stationSections = new StationSections();
+            try {
+                Field sectionsField = StationSections.class.getDeclaredField("sections");
+                sectionsField.setAccessible(true);
+                sectionsField.set(stationSections, sections);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+            return stationSections;
+        }
+    }
+
     @Nested
     class 삭제_허용 {
 
@@ -187,4 +261,29 @@ public class StationSectionsTest {
             assertThat(lastStationId).isEqualTo(논현_신논현_구간.getDownStationId());
         }
     }
+
+    @Nested
+    class 노선의_역_목록_조회 {
+
+        /**
+         * Given 지하철 구간이 생성되고, 3개의 구간이 추가된다.
+         * When  지하철 구간 목록의 역 ID 목록을 조회하면
+         * Then  첫번째 상행역부터 마지막 하행역까지 순서대로 반환된다.
+         */
+        @Test
+        void 지하철_구간_목록의_역_ID_목록_조회() {
+            // given
+            StationSections 구간_목록 = new StationSections();
+
+            구간_목록.addSection(new StationSection(1L, 2L, 3));
+            구간_목록.addSection(new StationSection(2L, 3L, 3));
+            구간_목록.addSection(new StationSection(3L, 4L, 3));
+
+            // when
+            List<Long> stationIds = 구간_목록.getStationIds();
+
+            // then
+            assertThat(stationIds).containsExactly(1L, 2L, 3L, 4L);
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package subway.steps;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+import static io.restassured.RestAssured.given;
+
+public class PathSteps {
+
+    /**
+     * 주어진 출발역과 도착역 사이의 최단 경로 조회 요청 후 Response 객체 반환
+     *
+     * @param source 출발역 ID
+     * @param target 도착역 ID
+     * @return REST Assured 기반으로 생성된 Response 객체
+     */
+    public static ExtractableResponse<Response> 최단_경로_조회_요청(Long source, Long target) {
+        return given().log().all()
+                .param("source", source)
+                .param("target", target)
+                .when()
+                .get("/paths")
+                .then().log().all()
+                .extract();
+    }
+
+    /**
+     * 주어진 두 역의 도달 가능 여부 조회 요청 후 Response 객체 반환
+     *
+     * @param source 출발역 ID
+     * @param target 도착역 ID
+     * @return REST Assured 기반으로 생성된 Response 객체
+     */
+    public static ExtractableResponse<Response> 도달_가능_여부_조회_요청(Long source, Long target) {
+        return given().log().all()
+                .param("source", source)
+                .param("target", target)
+                .when()
+                .get("/network/reachability")
+                .then().log().all()
+                .extract();
+    }
+
+    /**
+     * 서로 오갈 수 있는 역 묶음 목록 조회 요청 후 Response 객체 반환
+     *
+     * @return REST Assured 기반으로 생성된 Response 객체
+     */
+    public static ExtractableResponse<Response> 역_묶음_조회_요청() {
+        return given().log().all()
+                .when()
+                .get("/network/components")
+                .then().log().all()
+                .extract();
+    }
+}
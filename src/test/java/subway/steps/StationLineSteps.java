@@ -3,6 +3,7 @@ package subway.steps;
 import io.restassured.path.json.JsonPath;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import subway.dto.StationLineRequest;
@@ -39,6 +40,40 @@ public class StationLineSteps {
                 .extract().jsonPath();
     }
 
+    /**
+     * 지하철 노선에 포함된 두 역 사이의 거리 조회 요청 후 Response 객체 반환
+     *
+     * @param stationLineId 지하철 노선 ID
+     * @param from          출발역 ID
+     * @param to            도착역 ID
+     * @return REST Assured 기반으로 생성된 Response 객체
+     */
+    public static ExtractableResponse<Response> 지하철_노선_구간_거리_조회_요청(Long stationLineId, Long from, Long to) {
+        return given().log().all()
+                .param("from", from)
+                .param("to", to)
+                .when()
+                .get("/lines/" + stationLineId + "/distance")
+                .then().log().all()
+                .extract();
+    }
+
+    /**
+     * 주어진 ETag를 If-None-Match 헤더에 담아 지하철 노선을 조회하고 Response 객체 반환
+     *
+     * @param stationLineId 지하철 노선 ID
+     * @param eTag          이전 조회 응답의 ETag
+     * @return REST Assured 기반으로 생성된 Response 객체
+     */
+    public static ExtractableResponse<Response> 지하철_노선_조건부_조회_요청(Long stationLineId, String eTag) {
+        return given().log().all()
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .when()
+                .get("/lines/" + stationLineId)
+                .then().log().all()
+                .extract();
+    }
+
     /**
      * 지하철 노선 생성 요청 후 Response 객체 반환
      *
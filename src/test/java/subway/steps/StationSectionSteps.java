@@ -6,6 +6,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import subway.dto.StationSectionRequest;
 
+import java.util.List;
+
 import static io.restassured.RestAssured.given;
 
 public class StationSectionSteps {
@@ -30,6 +32,16 @@ public class StationSectionSteps {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 지하철_구간_일괄_생성요청_검증_생략(Long stationLineId,
+                                                                       List<StationSectionRequest> requests) {
+        return given()
+                .body(requests)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when()
+                .post(String.format("/lines/%d/sections/batch", stationLineId))
+                .then().extract();
+    }
+
     public static ExtractableResponse<Response> 지하철_구간_삭제요청_검증_생략(
             Long downStationIdToDelete, Long stationLineId) {
         return given().log().all()
@@ -5,22 +5,39 @@ import org.springframework.http.MediaType;
 import subway.dto.StationRequest;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static io.restassured.RestAssured.given;
+import static utils.HttpResponseUtils.getCreatedLocationId;
 
 public class StationSteps {
 
-    public static void 지하철_역_생성_요청(List<StationRequest> requests) {
-        requests.forEach(StationSteps::지하철_역_생성_요청);
+    /**
+     * 주어진 순서대로 지하철역 생성 요청 후 생성된 지하철역 ID 목록 반환
+     *
+     * @param requests 지하철역 생성 요청 목록
+     * @return 요청 순서대로 생성된 지하철역 ID 목록
+     */
+    public static List<Long> 지하철_역_생성_요청(List<StationRequest> requests) {
+        return requests.stream()
+                .map(StationSteps::지하철_역_생성_요청)
+                .collect(Collectors.toList());
     }
 
-    public static void 지하철_역_생성_요청(StationRequest request) {
-        given()
+    /**
+     * 지하철역 생성 요청 후 생성된 지하철역 ID 반환
+     *
+     * @param request 지하철역 생성 요청
+     * @return 생성된 지하철역 ID
+     */
+    public static Long 지하철_역_생성_요청(StationRequest request) {
+        return getCreatedLocationId(given()
             .body(request)
             .contentType(MediaType.APPLICATION_JSON_VALUE)
         .when()
             .post("/stations")
         .then()
-            .statusCode(HttpStatus.CREATED.value());
+            .statusCode(HttpStatus.CREATED.value())
+            .extract());
     }
 }